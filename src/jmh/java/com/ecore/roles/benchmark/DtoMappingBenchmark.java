@@ -0,0 +1,63 @@
+package com.ecore.roles.benchmark;
+
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.web.dto.MembershipDto;
+import com.ecore.roles.web.dto.RoleDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Membership membership;
+    private MembershipDto membershipDto;
+    private Role role;
+    private RoleDto roleDto;
+
+    @Setup
+    public void setUp() {
+        role = Role.builder()
+                .id(UUID.fromString("1b3c333b-36e7-4b64-aa15-c22ed5908ce4"))
+                .name("Developer")
+                .build();
+        membership = Membership.builder()
+                .id(UUID.fromString("98de61a0-b9e3-11ec-8422-0242ac120002"))
+                .role(role)
+                .userId(UUID.fromString("fd282131-d8aa-4819-b0c8-d9e0bfb1b75c"))
+                .teamId(UUID.fromString("7676a4bf-adfe-415c-941b-1739af07039b"))
+                .build();
+        membershipDto = MembershipDto.fromModel(membership);
+        roleDto = RoleDto.fromModel(role);
+    }
+
+    @Benchmark
+    public MembershipDto membershipFromModel() {
+        return MembershipDto.fromModel(membership);
+    }
+
+    @Benchmark
+    public Membership membershipToModel() {
+        return membershipDto.toModel();
+    }
+
+    @Benchmark
+    public RoleDto roleFromModel() {
+        return RoleDto.fromModel(role);
+    }
+
+    @Benchmark
+    public Role roleToModel() {
+        return roleDto.toModel();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ecore.roles.benchmark;
+
+import com.ecore.roles.RolesApplication;
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.MembershipsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link MembershipsService} against the application context backed by an in-memory H2
+ * database, calling the service directly. The web server only starts because the controllers need
+ * the MVC infrastructure. The table holds {@code existingMemberships} rows at the start of
+ * every iteration: the memberships inserted by {@link #assignRoleToMembership()} all belong to one
+ * team and are deleted after each iteration. {@link #getMemberships()} queries the repository, since
+ * the service would answer from the {@code memberships} cache, which
+ * {@link #getMembershipsCached()} measures instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MembershipsServiceBenchmark {
+
+    private static final UUID DEVELOPER_ROLE_ID = UUID.fromString("1b3c333b-36e7-4b64-aa15-c22ed5908ce4");
+    private static final UUID INSERTED_TEAM_ID = new UUID(0, 1);
+
+    @Param({"1000"})
+    private int existingMemberships;
+
+    private ConfigurableApplicationContext context;
+    private MembershipsService membershipsService;
+    private MembershipRepository membershipRepository;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RolesApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--warm-up.enabled=false",
+                        "--logging.level.root=WARN");
+        membershipsService = context.getBean(MembershipsService.class);
+        membershipRepository = context.getBean(MembershipRepository.class);
+        random = new Random(42);
+        for (int i = 0; i < existingMemberships; i++) {
+            membershipsService.assignRoleToMembership(
+                    newMembership(new UUID(random.nextLong(), random.nextLong())));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedMemberships() {
+        membershipRepository.deleteAll(membershipRepository.findByTeamId(INSERTED_TEAM_ID));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Membership assignRoleToMembership() {
+        return membershipsService.assignRoleToMembership(newMembership(INSERTED_TEAM_ID));
+    }
+
+    @Benchmark
+    public List<Membership> getMemberships() {
+        return membershipRepository.findByRoleId(DEVELOPER_ROLE_ID);
+    }
+
+    @Benchmark
+    public List<Membership> getMembershipsCached() {
+        return membershipsService.getMemberships(DEVELOPER_ROLE_ID);
+    }
+
+    private Membership newMembership(UUID teamId) {
+        return Membership.builder()
+                .role(Role.builder().id(DEVELOPER_ROLE_ID).build())
+                .userId(new UUID(random.nextLong(), random.nextLong()))
+                .teamId(teamId)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecore.roles.benchmark;
+
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.web.dto.MembershipDto;
+import com.ecore.roles.web.json.MembershipSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a membership search response: the former path that mapped every entity to a
+ * {@link MembershipDto} before writing the list, and the direct path {@code MembershipsRestController}
+ * uses now, where {@link MembershipSerializer} writes the entities straight to the generator. Run
+ * with the {@code gc} profiler to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper modelObjectMapper;
+    private List<Membership> memberships;
+    private List<MembershipDto> membershipDtos;
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        modelObjectMapper = Jackson2ObjectMapperBuilder.json().serializers(new MembershipSerializer()).build();
+        Random random = new Random(42);
+        Role role = Role.builder().id(new UUID(random.nextLong(), random.nextLong())).name("Developer").build();
+        memberships = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            memberships.add(Membership.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .role(role)
+                    .userId(new UUID(random.nextLong(), random.nextLong()))
+                    .teamId(new UUID(random.nextLong(), random.nextLong()))
+                    .build());
+        }
+        membershipDtos = mapToDtos();
+        buffer = new ByteArrayOutputStream(size * 200);
+    }
+
+    @Benchmark
+    public int serializeDtos() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, membershipDtos);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int mapAndSerialize() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, mapToDtos());
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int serializeModels() throws IOException {
+        buffer.reset();
+        modelObjectMapper.writeValue(buffer, memberships);
+        return buffer.size();
+    }
+
+    private List<MembershipDto> mapToDtos() {
+        List<MembershipDto> dtos = new ArrayList<>();
+        for (Membership membership : memberships) {
+            dtos.add(MembershipDto.fromModel(membership));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecore.roles.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code load.*} system properties.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadTestConfig {
+
+    private final Duration duration;
+    private final Duration warmup;
+    private final int concurrency;
+    private final Map<Operation, Integer> mix;
+    private final Path report;
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                DurationStyle.detectAndParse(System.getProperty("load.duration", "60s")),
+                DurationStyle.detectAndParse(System.getProperty("load.warmup", "15s")),
+                Integer.getInteger("load.concurrency", 32),
+                parseMix(System.getProperty("load.mix", defaultMix())),
+                Paths.get(System.getProperty("load.report", "target/load-test/report.json")));
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <operation>=<weight>");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix must contain at least one operation");
+        }
+        return weights;
+    }
+
+    private static String defaultMix() {
+        StringBuilder mix = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            mix.append(mix.length() == 0 ? "" : ",").append(operation.name()).append("=1");
+        }
+        return mix.toString();
+    }
+}
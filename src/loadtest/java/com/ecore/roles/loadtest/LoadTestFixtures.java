@@ -0,0 +1,60 @@
+package com.ecore.roles.loadtest;
+
+import com.ecore.roles.stub.SyntheticDirectory;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids and request helpers shared by the load test workers.
+ */
+public class LoadTestFixtures {
+
+    private static final List<UUID> ROLE_IDS = List.of(
+            UUID.fromString("1b3c333b-36e7-4b64-aa15-c22ed5908ce4"),
+            UUID.fromString("25bbb7d2-26f3-11ec-9621-0242ac130002"),
+            UUID.fromString("37969e22-26f3-11ec-9621-0242ac130002"));
+
+    private final String baseUrl;
+    private final int userCount;
+    private final int teamCount;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadTestFixtures(String baseUrl, int userCount, int teamCount) {
+        this.baseUrl = baseUrl;
+        this.userCount = userCount;
+        this.teamCount = teamCount;
+    }
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+    }
+
+    UUID roleId() {
+        return ROLE_IDS.get(ThreadLocalRandom.current().nextInt(ROLE_IDS.size()));
+    }
+
+    UUID userId() {
+        return SyntheticDirectory.userId(ThreadLocalRandom.current().nextInt(userCount));
+    }
+
+    UUID teamId() {
+        return SyntheticDirectory.teamId(ThreadLocalRandom.current().nextInt(teamCount));
+    }
+
+    UUID randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    String uniqueName() {
+        return "load-test-role-" + System.nanoTime() + "-" + sequence.incrementAndGet();
+    }
+}
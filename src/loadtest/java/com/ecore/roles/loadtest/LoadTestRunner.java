@@ -0,0 +1,180 @@
+package com.ecore.roles.loadtest;
+
+import com.ecore.roles.RolesApplication;
+import com.ecore.roles.configuration.UpstreamStubConfigurationProperties;
+import com.ecore.roles.configuration.VirtualThreadsConfigurationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boots the application with the {@code upstream-stub} profile, drives every endpoint with a weighted mix
+ * from {@code load.concurrency} closed-loop workers and writes throughput and latency percentiles
+ * to {@code load.report}. Samples taken during {@code load.warmup} are discarded.
+ */
+public class LoadTestRunner {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadTestConfig config;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        List<Operation> weighted = new ArrayList<>();
+        config.getMix().forEach((operation, weight) -> {
+            recorders.put(operation, new Recorder(MAX_LATENCY_NANOS, 3));
+            errors.put(operation, new LongAdder());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RolesApplication.class)
+                .profiles("upstream-stub")
+                .run("--server.port=0",
+                        "--upstream-stub.port=" + freePort(),
+                        "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            UpstreamStubConfigurationProperties upstream = context.getBean(UpstreamStubConfigurationProperties.class);
+            LoadTestFixtures fixtures = new LoadTestFixtures(baseUrl,
+                    upstream.getUsers().getSize(), upstream.getTeams().getSize());
+            Map<String, Object> report = new LoadTestRunner(config).run(fixtures);
+            report.put("threads", context.getBean(VirtualThreadsConfigurationProperties.class).isEnabled()
+                    ? "virtual"
+                    : "platform");
+            write(config, report);
+        }
+        System.exit(0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public Map<String, Object> run(LoadTestFixtures fixtures) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        long warmupEnd = System.nanoTime() + config.getWarmup().toNanos();
+        long end = warmupEnd + config.getDuration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            workers.execute(() -> drive(client, fixtures, warmupEnd, end));
+        }
+        workers.shutdown();
+        workers.awaitTermination(config.getDuration().toMillis() + TimeUnit.MINUTES.toMillis(1),
+                TimeUnit.MILLISECONDS);
+        return report();
+    }
+
+    private void drive(HttpClient client, LoadTestFixtures fixtures, long warmupEnd, long end) {
+        long now = System.nanoTime();
+        while (now < end) {
+            Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+            boolean failed;
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(operation.request(fixtures).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            now = System.nanoTime();
+            if (start >= warmupEnd) {
+                recorders.get(operation).recordValue(Math.min(now - start, MAX_LATENCY_NANOS));
+                if (failed) {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> report() {
+        double seconds = config.getDuration().toMillis() / 1000.0;
+        Histogram overall = new Histogram(MAX_LATENCY_NANOS, 3);
+        long overallErrors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long operationErrors = errors.get(entry.getKey()).sum();
+            overall.add(histogram);
+            overallErrors += operationErrors;
+            operations.put(entry.getKey().name(), summary(histogram, operationErrors, seconds));
+        }
+
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("durationSeconds", seconds);
+        configuration.put("warmupSeconds", config.getWarmup().toMillis() / 1000.0);
+        configuration.put("concurrency", config.getConcurrency());
+        configuration.put("mix", config.getMix());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("configuration", configuration);
+        report.put("overall", summary(overall, overallErrors, seconds));
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", millis(histogram.getMean()));
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static void write(LoadTestConfig config, Map<String, Object> report) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(config.getReport().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.getReport().toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report.get("overall")));
+        System.out.println("Load test report written to " + config.getReport().toAbsolutePath());
+    }
+}
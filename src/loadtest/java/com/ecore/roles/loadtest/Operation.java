@@ -0,0 +1,88 @@
+package com.ecore.roles.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+
+import static java.lang.String.format;
+
+/**
+ * The requests the load test can send, one per endpoint.
+ */
+public enum Operation {
+
+    getRoles {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/roles").GET();
+        }
+    },
+    getRole {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/roles/" + fixtures.roleId()).GET();
+        }
+    },
+    createRole {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/roles")
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(format("{\"name\":\"%s\"}", fixtures.uniqueName())));
+        }
+    },
+    assignMembership {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/roles/memberships")
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(format(
+                            "{\"roleId\":\"%s\",\"teamMemberId\":\"%s\",\"teamId\":\"%s\"}",
+                            fixtures.roleId(), fixtures.randomId(), fixtures.randomId())));
+        }
+    },
+    searchMemberships {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/roles/memberships/search?roleId=" + fixtures.roleId()).GET();
+        }
+    },
+    getUsers {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/users").GET();
+        }
+    },
+    getUser {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/users/" + fixtures.userId()).GET();
+        }
+    },
+    getTeams {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/teams").GET();
+        }
+    },
+    getTeam {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/teams/" + fixtures.teamId()).GET();
+        }
+    },
+    getUsersById {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request(format("/v1/users?ids=%s,%s,%s,%s,%s", fixtures.userId(), fixtures.userId(),
+                    fixtures.userId(), fixtures.userId(), fixtures.userId())).GET();
+        }
+    },
+    getTeamRoster {
+        @Override
+        HttpRequest.Builder request(LoadTestFixtures fixtures) {
+            return fixtures.request("/v1/teams/" + fixtures.teamId() + "/roster").GET();
+        }
+    };
+
+    abstract HttpRequest.Builder request(LoadTestFixtures fixtures);
+}
@@ -0,0 +1,64 @@
+package com.ecore.roles.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+import static com.ecore.roles.configuration.CacheConfiguration.RESPONSES_CACHE;
+
+/**
+ * Keeps response bodies already encoded as JSON or CBOR so repeated reads skip building DTOs and
+ * running Jackson. Each entry remembers the {@link ResourceVersions} ETag it was built for and is
+ * rebuilt once that has moved on, which also covers a body loaded concurrently with a write.
+ */
+@Component
+public class EncodedResponseCache {
+
+    private final Cache cache;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public EncodedResponseCache(
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborHttpMessageConverter) {
+        this.cache = cacheManager.getCache(RESPONSES_CACHE);
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborHttpMessageConverter.getObjectMapper();
+    }
+
+    /**
+     * Returns the cached body for {@code key} in {@code format} if it was built for {@code version},
+     * otherwise encodes what {@code body} supplies and caches it.
+     */
+    public byte[] get(String key, String version, MediaType format, Supplier<?> body) {
+        boolean cbor = MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(format);
+        String formatKey = cbor ? key + ";cbor" : key;
+        Entry entry = cache.get(formatKey, Entry.class);
+        if (entry != null && entry.getVersion().equals(version)) {
+            return entry.getBody();
+        }
+        byte[] encoded;
+        try {
+            encoded = (cbor ? cborMapper : jsonMapper).writeValueAsBytes(body.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode response " + formatKey, e);
+        }
+        cache.put(formatKey, new Entry(version, encoded));
+        return encoded;
+    }
+
+    @Value
+    static class Entry {
+
+        String version;
+        byte[] body;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecore.roles.cache;
+
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for the roles and the memberships, kept in the {@code resource_version} table
+ * and bumped by every write in the transaction of the write itself, so they also move for writes
+ * made by other instances or by the import command. Reads turn them into strong ETags, so a
+ * matching {@code If-None-Match} can be answered without querying the data. A version is read from
+ * the database again once {@code http-cache.version-check-interval} has passed, and right after a
+ * write through this instance commits. The ETags also carry a random epoch chosen at startup, so a
+ * restarted instance never confirms a version it did not serve.
+ */
+@Component
+public class ResourceVersions {
+
+    private static final String SELECT_VERSION = "select version from resource_version where resource = ?";
+    private static final String BUMP_VERSION =
+            "update resource_version set version = version + 1 where resource = ?";
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final JdbcTemplate jdbcTemplate;
+    private final HttpCacheConfigurationProperties httpCacheConfigurationProperties;
+    private final Version roles = new Version("roles");
+    private final Version memberships = new Version("memberships");
+
+    public ResourceVersions(
+            JdbcTemplate jdbcTemplate,
+            HttpCacheConfigurationProperties httpCacheConfigurationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.httpCacheConfigurationProperties = httpCacheConfigurationProperties;
+    }
+
+    public String rolesETag() {
+        return eTag(roles);
+    }
+
+    public String membershipsETag() {
+        return eTag(memberships);
+    }
+
+    /**
+     * Number of committed membership writes so far, for caches that follow the table.
+     */
+    public long membershipsVersion() {
+        return memberships.get();
+    }
+
+    public void rolesChanged() {
+        bump(roles);
+    }
+
+    public void membershipsChanged() {
+        bump(memberships);
+    }
+
+    /**
+     * Bumps the stored version in the transaction of the write and reads it again once that has
+     * committed, so a version is never handed out with data older than the change it stands for.
+     */
+    private void bump(Version version) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                    "The " + version.resource + " version must be bumped in the transaction of the write");
+        }
+        jdbcTemplate.update(BUMP_VERSION, version.resource);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                version.invalidate();
+            }
+        });
+    }
+
+    private String eTag(Version version) {
+        return "\"" + version.resource + "-" + epoch + "-" + version.get() + "\"";
+    }
+
+    private class Version {
+
+        private final String resource;
+        private final AtomicLong invalidations = new AtomicLong();
+        private volatile long value;
+        private volatile long checkedAt;
+        private volatile long checkedInvalidations = -1;
+
+        Version(String resource) {
+            this.resource = resource;
+        }
+
+        long get() {
+            if (checkedInvalidations != invalidations.get() || System.nanoTime()
+                    - checkedAt > httpCacheConfigurationProperties.getVersionCheckInterval().toNanos()) {
+                refresh();
+            }
+            return value;
+        }
+
+        void invalidate() {
+            invalidations.incrementAndGet();
+        }
+
+        /**
+         * Only counts as checked if no write committed here while the version was read, since the read may
+         * have missed it.
+         */
+        private synchronized void refresh() {
+            long seen = invalidations.get();
+            if (checkedInvalidations == seen && System.nanoTime()
+                    - checkedAt <= httpCacheConfigurationProperties.getVersionCheckInterval().toNanos()) {
+                return;
+            }
+            Long stored = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class, resource);
+            value = stored == null ? 0 : stored;
+            checkedAt = System.nanoTime();
+            checkedInvalidations = seen;
+        }
+    }
+}
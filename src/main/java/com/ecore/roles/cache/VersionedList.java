@@ -0,0 +1,17 @@
+package com.ecore.roles.cache;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A cached list together with the {@link ResourceVersions} version read before it was loaded, so it
+ * is only served while that version is current. Caches bounded with {@code maximumWeight} weigh it
+ * by its number of elements.
+ */
+@Value
+public class VersionedList<T> {
+
+    long version;
+    List<T> values;
+}
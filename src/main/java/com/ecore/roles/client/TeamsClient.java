@@ -2,36 +2,65 @@ package com.ecore.roles.client;
 
 import com.ecore.roles.client.model.Team;
 import com.ecore.roles.configuration.ClientsConfigurationProperties;
+import com.ecore.roles.monitoring.UpstreamCallEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @Component
 public class TeamsClient {
 
+    private static final String UPSTREAM = "teams";
+
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final UpstreamHedging upstreamHedging;
+    private final UpstreamRetries upstreamRetries;
     private final ClientsConfigurationProperties clientsConfigurationProperties;
 
     public ResponseEntity<Team> getTeam(UUID id) {
-        return restTemplate.exchange(
-                clientsConfigurationProperties.getTeamsApiHost() + "/" + id,
-                HttpMethod.GET,
-                null,
-                Team.class);
+        return UpstreamCallEvent.record(UPSTREAM, id,
+                () -> upstreamRetries.call(UPSTREAM, () -> restTemplate.exchange(
+                        clientsConfigurationProperties.getTeamsApiHost() + "/{id}",
+                        HttpMethod.GET,
+                        null,
+                        Team.class,
+                        id)));
     }
 
     public ResponseEntity<List<Team>> getTeams() {
-        return restTemplate.exchange(
-                clientsConfigurationProperties.getTeamsApiHost(),
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<>() {});
+        return UpstreamCallEvent.record(UPSTREAM, null,
+                () -> upstreamRetries.call(UPSTREAM, () -> restTemplate.exchange(
+                        clientsConfigurationProperties.getTeamsApiHost(),
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<List<Team>>() {})));
+    }
+
+    public CompletableFuture<ResponseEntity<Team>> getTeamAsync(UUID id) {
+        return UpstreamCallEvent.recordAsync(UPSTREAM, id,
+                () -> upstreamRetries.apply(UPSTREAM, upstreamHedging.hedge(UPSTREAM, webClient.get()
+                        .uri(clientsConfigurationProperties.getTeamsApiHost() + "/{id}", id)
+                        .retrieve()
+                        .toEntity(Team.class)))
+                        .toFuture());
+    }
+
+    public CompletableFuture<ResponseEntity<List<Team>>> getTeamsAsync() {
+        return UpstreamCallEvent.recordAsync(UPSTREAM, null,
+                () -> upstreamRetries.apply(UPSTREAM, webClient.get()
+                        .uri(clientsConfigurationProperties.getTeamsApiHost())
+                        .retrieve()
+                        .toEntity(new ParameterizedTypeReference<List<Team>>() {}))
+                        .toFuture());
     }
 }
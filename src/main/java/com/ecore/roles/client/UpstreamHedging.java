@@ -0,0 +1,129 @@
+package com.ecore.roles.client;
+
+import com.ecore.roles.configuration.HedgingConfigurationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Trims the latency tail of idempotent upstream reads. Every successful call is timed per upstream;
+ * once a call has taken longer than the configured percentile of those times, the same request is
+ * sent again, the first value wins and the other request is cancelled. A request that fails does
+ * not cancel the other one; the call fails with the first request's error only when both fail. A
+ * budget, saved up as a fraction of the calls made, caps the extra load.
+ */
+@Component
+public class UpstreamHedging {
+
+    static final String LATENCY_METRIC = "roles.upstream.latency";
+    static final String HEDGES_METRIC = "roles.upstream.hedges";
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final HedgingConfigurationProperties hedgingConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public UpstreamHedging(
+            HedgingConfigurationProperties hedgingConfigurationProperties,
+            MeterRegistry meterRegistry) {
+        this.hedgingConfigurationProperties = hedgingConfigurationProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> Mono<T> hedge(String upstream, Mono<T> call) {
+        Upstream tracked = upstreams.computeIfAbsent(upstream, Upstream::new);
+        Mono<T> timed = call.elapsed()
+                .doOnNext(result -> tracked.latency.record(result.getT1(), TimeUnit.MILLISECONDS))
+                .map(result -> result.getT2());
+        if (!hedgingConfigurationProperties.isEnabled()) {
+            return timed;
+        }
+        tracked.earn();
+        Duration delay = tracked.hedgeDelay();
+        if (delay == null) {
+            return timed;
+        }
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        Sinks.Empty<Void> primaryFailed = Sinks.empty();
+        Mono<T> primary = timed.doOnError(error -> {
+            primaryError.set(error);
+            primaryFailed.tryEmitEmpty();
+        });
+        Mono<T> hedged = Mono.delay(delay)
+                .takeUntilOther(primaryFailed.asMono())
+                .flatMap(tick -> {
+                    if (!tracked.spend()) {
+                        return Mono.empty();
+                    }
+                    meterRegistry.counter(HEDGES_METRIC, "upstream", upstream, "outcome", "sent").increment();
+                    return timed.doOnNext(value -> meterRegistry
+                            .counter(HEDGES_METRIC, "upstream", upstream, "outcome", "won").increment());
+                });
+        return Mono.firstWithValue(primary, hedged)
+                .onErrorMap(error -> primaryError.get() != null ? primaryError.get() : error);
+    }
+
+    private class Upstream {
+
+        private final Timer latency;
+        private double tokens;
+        private volatile Duration hedgeDelay;
+        private volatile long refreshedAt;
+
+        Upstream(String name) {
+            this.latency = Timer.builder(LATENCY_METRIC)
+                    .description("Successful calls to the Users and Teams APIs, hedges included")
+                    .tag("upstream", name)
+                    .publishPercentiles(hedgingConfigurationProperties.getPercentile())
+                    .register(meterRegistry);
+        }
+
+        synchronized void earn() {
+            tokens = Math.min(hedgingConfigurationProperties.getMaxBurst(),
+                    tokens + hedgingConfigurationProperties.getBudget());
+        }
+
+        synchronized boolean spend() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        /**
+         * The configured percentile of recent latencies, read from the timer at most once a second once
+         * known; {@code null} while there are too few samples to hedge on.
+         */
+        Duration hedgeDelay() {
+            long now = System.nanoTime();
+            if (hedgeDelay == null || now - refreshedAt >= REFRESH_NANOS) {
+                refreshedAt = now;
+                hedgeDelay = computeHedgeDelay();
+            }
+            return hedgeDelay;
+        }
+
+        private Duration computeHedgeDelay() {
+            if (latency.count() < hedgingConfigurationProperties.getMinSamples()) {
+                return null;
+            }
+            for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+                Duration delay = Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+                Duration minDelay = hedgingConfigurationProperties.getMinDelay();
+                return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+            }
+            return null;
+        }
+    }
+}
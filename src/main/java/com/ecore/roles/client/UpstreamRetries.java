@@ -0,0 +1,122 @@
+package com.ecore.roles.client;
+
+import com.ecore.roles.configuration.UpstreamRetryConfigurationProperties;
+import com.ecore.roles.deadline.Deadline;
+import com.ecore.roles.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Retries failed upstream calls with exponential, jittered backoff, as long as the request
+ * {@link Deadline} outlasts the backoff. Server errors, {@code 429} and I/O failures are retried;
+ * other client errors are answers and are not. Non-blocking calls still running at the deadline are
+ * cancelled.
+ */
+@RequiredArgsConstructor
+@Component
+public class UpstreamRetries {
+
+    static final String RETRIES_METRIC = "roles.upstream.retries";
+
+    private final UpstreamRetryConfigurationProperties upstreamRetryConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T call(String upstream, Supplier<T> call) {
+        Deadline deadline = Deadline.current();
+        for (int attempt = 1;; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (deadline != null && deadline.isExpired() && !(e instanceof DeadlineExceededException)) {
+                    throw new DeadlineExceededException(upstream + " call");
+                }
+                Duration backoff = backoffBeforeRetry(deadline, attempt, e);
+                if (backoff == null) {
+                    throw e;
+                }
+                retrying(upstream);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoff.toNanos());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public <T> Mono<T> apply(String upstream, Mono<T> call) {
+        Deadline deadline = Deadline.current();
+        Mono<T> retried = call.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            Duration backoff =
+                    backoffBeforeRetry(deadline, (int) signal.totalRetries() + 1, signal.failure());
+            if (backoff == null) {
+                return Mono.error(signal.failure());
+            }
+            retrying(upstream);
+            return Mono.delay(backoff);
+        })));
+        if (deadline == null) {
+            return retried;
+        }
+        return Mono.defer(() -> deadline.isExpired()
+                ? Mono.<T>error(new DeadlineExceededException(upstream + " call"))
+                : retried.timeout(deadline.remaining()))
+                .onErrorMap(TimeoutException.class, e -> new DeadlineExceededException(upstream + " call"))
+                .contextWrite(Context.of(Deadline.class, deadline));
+    }
+
+    /**
+     * The wait before attempt {@code attempt + 1}, or {@code null} when the call should not be retried.
+     */
+    private Duration backoffBeforeRetry(Deadline deadline, int attempt, Throwable failure) {
+        if (attempt >= upstreamRetryConfigurationProperties.getMaxAttempts() || !isRetryable(failure)) {
+            return null;
+        }
+        long backoff = Math.min(
+                upstreamRetryConfigurationProperties.getInitialBackoff().toNanos() << Math.min(attempt - 1,
+                        30),
+                upstreamRetryConfigurationProperties.getMaxBackoff().toNanos());
+        backoff -= (long) (backoff * upstreamRetryConfigurationProperties.getJitter()
+                * ThreadLocalRandom.current().nextDouble());
+        Duration wait = Duration.ofNanos(backoff);
+        if (deadline != null && deadline.remaining().compareTo(wait) <= 0) {
+            return null;
+        }
+        return wait;
+    }
+
+    private void retrying(String upstream) {
+        meterRegistry.counter(RETRIES_METRIC, "upstream", upstream).increment();
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        if (failure instanceof HttpServerErrorException
+                || failure instanceof HttpClientErrorException.TooManyRequests
+                || failure instanceof ResourceAccessException
+                || failure instanceof WebClientRequestException) {
+            return true;
+        }
+        if (failure instanceof WebClientResponseException) {
+            int status = ((WebClientResponseException) failure).getRawStatusCode();
+            return status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return false;
+    }
+}
@@ -2,36 +2,65 @@ package com.ecore.roles.client;
 
 import com.ecore.roles.client.model.User;
 import com.ecore.roles.configuration.ClientsConfigurationProperties;
+import com.ecore.roles.monitoring.UpstreamCallEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 @Component
 public class UsersClient {
 
+    private static final String UPSTREAM = "users";
+
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
+    private final UpstreamHedging upstreamHedging;
+    private final UpstreamRetries upstreamRetries;
     private final ClientsConfigurationProperties clientsConfigurationProperties;
 
     public ResponseEntity<User> getUser(UUID id) {
-        return restTemplate.exchange(
-                clientsConfigurationProperties.getUsersApiHost() + "/" + id,
-                HttpMethod.GET,
-                null,
-                User.class);
+        return UpstreamCallEvent.record(UPSTREAM, id,
+                () -> upstreamRetries.call(UPSTREAM, () -> restTemplate.exchange(
+                        clientsConfigurationProperties.getUsersApiHost() + "/{id}",
+                        HttpMethod.GET,
+                        null,
+                        User.class,
+                        id)));
     }
 
     public ResponseEntity<List<User>> getUsers() {
-        return restTemplate.exchange(
-                clientsConfigurationProperties.getUsersApiHost(),
-                HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<>() {});
+        return UpstreamCallEvent.record(UPSTREAM, null,
+                () -> upstreamRetries.call(UPSTREAM, () -> restTemplate.exchange(
+                        clientsConfigurationProperties.getUsersApiHost(),
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<List<User>>() {})));
+    }
+
+    public CompletableFuture<ResponseEntity<User>> getUserAsync(UUID id) {
+        return UpstreamCallEvent.recordAsync(UPSTREAM, id,
+                () -> upstreamRetries.apply(UPSTREAM, upstreamHedging.hedge(UPSTREAM, webClient.get()
+                        .uri(clientsConfigurationProperties.getUsersApiHost() + "/{id}", id)
+                        .retrieve()
+                        .toEntity(User.class)))
+                        .toFuture());
+    }
+
+    public CompletableFuture<ResponseEntity<List<User>>> getUsersAsync() {
+        return UpstreamCallEvent.recordAsync(UPSTREAM, null,
+                () -> upstreamRetries.apply(UPSTREAM, webClient.get()
+                        .uri(clientsConfigurationProperties.getUsersApiHost())
+                        .retrieve()
+                        .toEntity(new ParameterizedTypeReference<List<User>>() {}))
+                        .toFuture());
     }
 }
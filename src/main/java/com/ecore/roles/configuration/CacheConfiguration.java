@@ -0,0 +1,63 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.cache.VersionedList;
+import com.ecore.roles.monitoring.EventRecordingCaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+
+@EnableCaching
+@Configuration
+public class CacheConfiguration {
+
+    public static final String ROLES_CACHE = "roles";
+    public static final String USERS_CACHE = "users";
+    public static final String TEAMS_CACHE = "teams";
+    public static final String RESPONSES_CACHE = "responses";
+    public static final String MEMBERSHIPS_CACHE = "memberships";
+
+    /**
+     * The caches are transaction aware: an eviction or put made by a write takes effect once its
+     * transaction has committed, so a concurrent read cannot cache the data from before the write
+     * again.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheConfigurationProperties cacheConfigurationProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+
+            @Override
+            protected Cache adaptCaffeineCache(
+                    String name,
+                    com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TransactionAwareCacheDecorator(
+                        new EventRecordingCaffeineCache(name, cache, isAllowNullValues()));
+            }
+        };
+        cacheConfigurationProperties.getSpecs().forEach((name, spec) -> cacheManager
+                .registerCustomCache(name, builder(spec).recordStats().build()));
+        return cacheManager;
+    }
+
+    /**
+     * Caches bounded with {@code maximumWeight} weigh a cached collection or {@link VersionedList} by
+     * its number of elements, so a few large results cannot take more memory than many small ones.
+     */
+    private static Caffeine<Object, Object> builder(String spec) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        return spec.contains("maximumWeight") ? builder.weigher(CacheConfiguration::weigh) : builder;
+    }
+
+    private static int weigh(Object key, Object value) {
+        if (value instanceof VersionedList) {
+            return Math.max(1, ((VersionedList<?>) value).getValues().size());
+        }
+        return value instanceof Collection ? Math.max(1, ((Collection<?>) value).size()) : 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "caches")
+public class CacheConfigurationProperties {
+
+    /**
+     * Caffeine specification per cache name, e.g. {@code maximumSize=1000,expireAfterWrite=5m}.
+     */
+    private Map<String, String> specs = new HashMap<>();
+
+}
@@ -0,0 +1,23 @@
+package com.ecore.roles.configuration;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+@Configuration
+public class CborConfiguration {
+
+    /**
+     * CBOR converter built from the same Jackson configuration as JSON. CBOR writes binary values
+     * natively, so UUIDs take 16 bytes instead of a 36-character string.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder
+                .factory(new CBORFactory())
+                .build());
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.limit.AimdLimiter;
+import com.ecore.roles.limit.ConcurrencyLimitInterceptor;
+import com.ecore.roles.limit.LimitedResource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Configuration
+@ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitConfigurationProperties concurrencyLimitConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        Map<LimitedResource, AimdLimiter> limiters = new EnumMap<>(LimitedResource.class);
+        limiters.put(LimitedResource.DATABASE,
+                new AimdLimiter(concurrencyLimitConfigurationProperties.getDatabase()));
+        limiters.put(LimitedResource.UPSTREAM,
+                new AimdLimiter(concurrencyLimitConfigurationProperties.getUpstream()));
+        limiters.forEach((resource, limiter) -> {
+            String tag = resource.name().toLowerCase();
+            Gauge.builder("roles.concurrency.limit", limiter, AimdLimiter::getLimit)
+                    .tag("resource", tag)
+                    .register(meterRegistry);
+            Gauge.builder("roles.concurrency.in-flight", limiter, AimdLimiter::getInFlight)
+                    .tag("resource", tag)
+                    .register(meterRegistry);
+        });
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(limiters,
+                concurrencyLimitConfigurationProperties.getRetryAfter(), meterRegistry))
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
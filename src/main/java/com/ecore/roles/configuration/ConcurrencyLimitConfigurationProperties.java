@@ -0,0 +1,63 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitConfigurationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Sent as {@code Retry-After} with the 503 of a rejected request.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Endpoints answered from the database: roles and memberships.
+     */
+    private Limit database = new Limit(20, 200, Duration.ofMillis(250));
+
+    /**
+     * Endpoints that call the Users and Teams APIs.
+     */
+    private Limit upstream = new Limit(50, 1000, Duration.ofSeconds(1));
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit;
+
+        private int minLimit = 1;
+
+        private int maxLimit;
+
+        /**
+         * Requests slower than this, or failing with a 5xx, count as a sign of overload and shrink the
+         * limit; all others let it grow by one.
+         */
+        private Duration latencyThreshold;
+
+        /**
+         * Factor the limit is multiplied by on overload.
+         */
+        private double backoffRatio = 0.9;
+
+        Limit(int initialLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+}
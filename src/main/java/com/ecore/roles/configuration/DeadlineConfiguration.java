@@ -0,0 +1,55 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.deadline.DeadlineClientHttpRequestFactory;
+import com.ecore.roles.deadline.DeadlineClientInterceptor;
+import com.ecore.roles.deadline.DeadlineExchangeFilter;
+import com.ecore.roles.deadline.DeadlineFilter;
+import com.ecore.roles.deadline.DeadlineRepositoryInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.persistence.EntityManagerFactory;
+
+@RequiredArgsConstructor
+@Configuration
+public class DeadlineConfiguration {
+
+    private final DeadlineConfigurationProperties deadlineConfigurationProperties;
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter() {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(
+                new DeadlineFilter(
+                        deadlineConfigurationProperties.getHeader(),
+                        deadlineConfigurationProperties.getDefaultTimeout(),
+                        deadlineConfigurationProperties.getMaxTimeout()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public DeadlineRepositoryInterceptor deadlineRepositoryInterceptor(
+            EntityManagerFactory entityManagerFactory) {
+        return new DeadlineRepositoryInterceptor(entityManagerFactory);
+    }
+
+    @Bean
+    public RestTemplateCustomizer deadlineRestTemplateCustomizer() {
+        return restTemplate -> {
+            restTemplate.setRequestFactory(new DeadlineClientHttpRequestFactory());
+            restTemplate.getInterceptors()
+                    .add(new DeadlineClientInterceptor(deadlineConfigurationProperties.getHeader()));
+        };
+    }
+
+    @Bean
+    public WebClientCustomizer deadlineWebClientCustomizer() {
+        return builder -> builder
+                .filter(new DeadlineExchangeFilter(deadlineConfigurationProperties.getHeader()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineConfigurationProperties {
+
+    /**
+     * Request header with the milliseconds the caller is willing to wait. It is also sent to the Users
+     * and Teams APIs with the time left.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Deadline of requests that do not carry the header.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Upper bound for the deadline asked for in the header.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+}
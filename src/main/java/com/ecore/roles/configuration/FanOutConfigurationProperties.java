@@ -0,0 +1,33 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fan-out")
+public class FanOutConfigurationProperties {
+
+    /**
+     * Upper bound for upstream calls in flight at once, shared by all requests that fan out.
+     */
+    private int parallelism = 16;
+
+    /**
+     * Deadline for one fan-out; lookups still pending when it is reached are left out of the result.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /**
+     * Most distinct ids one batch lookup may ask for; larger batches are rejected with 400.
+     */
+    private int maxBatchSize = 100;
+
+}
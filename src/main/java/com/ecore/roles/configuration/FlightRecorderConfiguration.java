@@ -0,0 +1,20 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.monitoring.FlightRecorderEndpoint;
+import com.ecore.roles.monitoring.RepositoryEventInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlightRecorderConfiguration {
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint() {
+        return new FlightRecorderEndpoint();
+    }
+
+    @Bean
+    public RepositoryEventInterceptor repositoryEventInterceptor() {
+        return new RepositoryEventInterceptor();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "hedging")
+public class HedgingConfigurationProperties {
+
+    /**
+     * Sends a second, identical request for a user or team when the first one is slower than
+     * {@link #percentile} of the recent upstream latencies.
+     */
+    private boolean enabled = false;
+
+    private double percentile = 0.95;
+
+    /**
+     * Successful calls to observe before the first hedge, so the percentile means something.
+     */
+    private int minSamples = 100;
+
+    /**
+     * Lower bound for the hedge delay, to never hedge calls that are fast anyway.
+     */
+    private Duration minDelay = Duration.ofMillis(5);
+
+    /**
+     * Hedges allowed per call, e.g. 0.05 caps the extra load at 5% of the calls.
+     */
+    private double budget = 0.05;
+
+    /**
+     * Hedges that can be sent in a row once the budget has been saved up.
+     */
+    private int maxBurst = 10;
+
+}
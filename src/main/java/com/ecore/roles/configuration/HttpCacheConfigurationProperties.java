@@ -0,0 +1,50 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * How long clients and shared caches may reuse each read response before revalidating it.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheConfigurationProperties {
+
+    /**
+     * The list of roles, which changes whenever a role is created.
+     */
+    private Duration roles = Duration.ofSeconds(60);
+
+    /**
+     * A single role, which never changes once created.
+     */
+    private Duration role = Duration.ofHours(1);
+
+    /**
+     * Membership search results, which change whenever a role is assigned.
+     */
+    private Duration memberships = Duration.ZERO;
+
+    private Duration users = Duration.ofMinutes(5);
+
+    private Duration teams = Duration.ofMinutes(5);
+
+    /**
+     * Longest time an ETag version is reused before it is read again from the database, which bounds
+     * how long writes made by other instances or by the import command go unnoticed.
+     */
+    private Duration versionCheckInterval = Duration.ofSeconds(1);
+
+    public static CacheControl cacheControl(Duration maxAge) {
+        return CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfigurationProperties {
+
+    /**
+     * How long a response is replayed for retries with the same {@code Idempotency-Key}.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Responses kept in memory, least recently used first out; older ones are read back from the
+     * database.
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * Minimum time between two deletions of the expired responses from the database.
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+
+}
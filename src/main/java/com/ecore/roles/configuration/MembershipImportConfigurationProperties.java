@@ -0,0 +1,39 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "membership-import")
+public class MembershipImportConfigurationProperties {
+
+    /**
+     * CSV or NDJSON file to import at startup; nothing is imported when it is not set.
+     */
+    private Path file;
+
+    /**
+     * Rows written per JDBC batch and transaction; the checkpoint moves forward after each one.
+     */
+    private int batchSize = 5000;
+
+    /**
+     * Interval between two progress lines in the log.
+     */
+    private Duration progressInterval = Duration.ofSeconds(5);
+
+    /**
+     * Stops the application once the import is done, with a non-zero exit code if it failed.
+     */
+    private boolean exitWhenDone = true;
+
+}
@@ -0,0 +1,37 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.monitoring.RepositoryInvocationInterceptor;
+import com.ecore.roles.monitoring.RepositoryMonitoringBeanPostProcessor;
+import com.ecore.roles.monitoring.SqlCapture;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryMonitoringConfiguration {
+
+    @Bean
+    public static RepositoryMonitoringBeanPostProcessor repositoryMonitoringBeanPostProcessor(
+            ObjectProvider<RepositoryInvocationInterceptor> interceptors) {
+        return new RepositoryMonitoringBeanPostProcessor(interceptors);
+    }
+
+    @Bean
+    public SqlCapture sqlCapture(
+            QueryMonitoringConfigurationProperties queryMonitoringConfigurationProperties) {
+        return new SqlCapture(queryMonitoringConfigurationProperties.getMaxStatementsPerQuery());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCaptureCustomizer(
+            SqlCapture sqlCapture,
+            QueryMonitoringConfigurationProperties queryMonitoringConfigurationProperties) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+            properties.put(AvailableSettings.GENERATE_STATISTICS,
+                    queryMonitoringConfigurationProperties.isStatisticsEnabled());
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "query-monitoring")
+public class QueryMonitoringConfigurationProperties {
+
+    /**
+     * Turns on the Hibernate statistics reported by {@code /actuator/querystats}; they add bookkeeping
+     * to every session, so they are off by default.
+     */
+    private boolean statisticsEnabled = false;
+
+    /**
+     * Repository calls taking longer than this are written to the slow-query log.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(100);
+
+    /**
+     * How many slow queries are kept; the oldest entries are dropped first.
+     */
+    private int slowQueryLogSize = 100;
+
+    /**
+     * Upper bound for the statements kept per slow query.
+     */
+    private int maxStatementsPerQuery = 20;
+
+}
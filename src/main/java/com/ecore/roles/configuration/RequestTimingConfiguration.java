@@ -0,0 +1,71 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.monitoring.RequestTimingClientInterceptor;
+import com.ecore.roles.monitoring.RequestTimingFilter;
+import com.ecore.roles.monitoring.RequestTimingHandlerInterceptor;
+import com.ecore.roles.monitoring.RequestTimingRepositoryInterceptor;
+import com.ecore.roles.monitoring.SlowRequestLog;
+import com.ecore.roles.monitoring.SlowRequestsEndpoint;
+import com.ecore.roles.monitoring.TimedValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+@ConditionalOnProperty(prefix = "request-timing", name = "enabled", matchIfMissing = true)
+public class RequestTimingConfiguration implements WebMvcConfigurer {
+
+    private final javax.validation.Validator validator;
+
+    @Bean
+    public SlowRequestLog slowRequestLog(
+            RequestTimingConfigurationProperties requestTimingConfigurationProperties) {
+        return new SlowRequestLog(requestTimingConfigurationProperties.getSlowRequestLogSize());
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestsEndpoint(slowRequestLog);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(
+            RequestTimingConfigurationProperties requestTimingConfigurationProperties,
+            SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<RequestTimingFilter> registration = new FilterRegistrationBean<>(
+                new RequestTimingFilter(
+                        requestTimingConfigurationProperties.getSlowRequestThreshold().toNanos(),
+                        slowRequestLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public RequestTimingRepositoryInterceptor requestTimingRepositoryInterceptor() {
+        return new RequestTimingRepositoryInterceptor();
+    }
+
+    @Bean
+    public RestTemplateCustomizer requestTimingRestTemplateCustomizer() {
+        return restTemplate -> restTemplate.getInterceptors().add(new RequestTimingClientInterceptor());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestTimingHandlerInterceptor());
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(validator));
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "request-timing")
+public class RequestTimingConfigurationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests taking longer than this keep their phase breakdown in the slow-request log.
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /**
+     * How many slow requests are kept; the oldest entries are dropped first.
+     */
+    private int slowRequestLogSize = 100;
+
+}
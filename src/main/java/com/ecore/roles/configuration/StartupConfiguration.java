@@ -0,0 +1,22 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.startup.LazyPackagesBeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfiguration {
+
+    @Bean
+    public static LazyPackagesBeanFactoryPostProcessor lazyPackagesBeanFactoryPostProcessor(
+            Environment environment) {
+        return new LazyPackagesBeanFactoryPostProcessor(Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "upstream-retry")
+public class UpstreamRetryConfigurationProperties {
+
+    /**
+     * Attempts per upstream call, the first one included; 1 disables retries.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Backoff before the first retry, doubled for every further one.
+     */
+    private Duration initialBackoff = Duration.ofMillis(50);
+
+    private Duration maxBackoff = Duration.ofMillis(500);
+
+    /**
+     * Fraction of each backoff that is randomized, so callers that failed together do not retry
+     * together.
+     */
+    private double jitter = 0.5;
+
+}
@@ -0,0 +1,82 @@
+package com.ecore.roles.configuration;
+
+import com.ecore.roles.stub.LatencyDistribution;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "upstream-stub")
+public class UpstreamStubConfigurationProperties {
+
+    private int port = 18080;
+
+    /**
+     * Worker threads of the stub server; simulated latency holds a thread for its duration.
+     */
+    private int threads = 200;
+
+    private int membersPerTeam = 10;
+
+    private Upstream users = new Upstream(100_000);
+
+    private Upstream teams = new Upstream(10_000);
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Upstream {
+
+        private int size;
+
+        /**
+         * Extra characters added to every resource to simulate larger payloads.
+         */
+        private int payloadPadding = 0;
+
+        /**
+         * Share of requests, between 0 and 1, answered with {@link #errorStatus}.
+         */
+        private double errorRate = 0;
+
+        private int errorStatus = 503;
+
+        private Latency latency = new Latency();
+
+        public Upstream(int size) {
+            this.size = size;
+        }
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Latency {
+
+        private LatencyDistribution distribution = LatencyDistribution.NONE;
+
+        /**
+         * Delay of {@code FIXED} and median of {@code LOG_NORMAL}.
+         */
+        private Duration median = Duration.ofMillis(20);
+
+        /**
+         * 99th percentile of {@code LOG_NORMAL}.
+         */
+        private Duration p99 = Duration.ofMillis(200);
+
+        /**
+         * Bounds of {@code UNIFORM}.
+         */
+        private Duration min = Duration.ZERO;
+
+        private Duration max = Duration.ofMillis(50);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadsConfigurationProperties {
+
+    /**
+     * Runs Tomcat requests and fan-out lookups on virtual threads; requires Java 21 or later at
+     * runtime. Concurrency is then bounded by {@code server.tomcat.max-connections}, the connection
+     * pool and {@code fan-out.parallelism} instead of thread pool sizes.
+     */
+    private boolean enabled = false;
+
+}
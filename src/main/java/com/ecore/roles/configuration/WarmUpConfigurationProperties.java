@@ -0,0 +1,32 @@
+package com.ecore.roles.configuration;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warm-up")
+public class WarmUpConfigurationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound for the whole warm-up phase; readiness is reported once it is reached.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    private int parallelism = 4;
+
+    /**
+     * How many user and team ids taken from existing memberships are looked up.
+     */
+    private int maxPrefetchedIds = 100;
+
+}
@@ -0,0 +1,17 @@
+package com.ecore.roles.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Non-blocking client for the Users and Teams APIs. Requests are sent and answered on the Netty
+ * event loop, so upstream calls in flight do not hold a servlet thread.
+ */
+@Configuration
+public class WebClientConfiguration {
+    @Bean
+    public WebClient webClient(WebClient.Builder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecore.roles.deadline;
+
+import com.ecore.roles.exception.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * The time by which the caller of the current request expects an answer. Opened by
+ * {@link DeadlineFilter} for each request; work done for the request on other threads carries it
+ * along with {@link #wrap}. Outside a request {@link #current()} is {@code null} and nothing is
+ * bounded.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    static void set(Deadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(expiresAtNanos - System.nanoTime(), 0));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Abandons the work about to start once the caller has stopped waiting for it.
+     */
+    public void check(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(operation);
+        }
+    }
+
+    /**
+     * Runs {@code task} with this deadline as the current one, on whichever thread calls it.
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Runs {@code work} with {@code deadline} as the current one, for a request that continues in a
+     * callback on another thread. A {@code null} deadline leaves the work unbounded.
+     */
+    public static <V> V supplyWith(Deadline deadline, Supplier<V> work) {
+        Deadline previous = CURRENT.get();
+        restore(deadline);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecore.roles.deadline;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+/**
+ * Bounds connecting to and reading from the Users and Teams APIs by the time left before the
+ * deadline, so a blocked upstream call gives up when its caller does.
+ */
+public class DeadlineClientHttpRequestFactory extends SimpleClientHttpRequestFactory {
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            int timeout = (int) Math.min(Math.max(deadline.remaining().toMillis(), 1), Integer.MAX_VALUE);
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+        }
+    }
+}
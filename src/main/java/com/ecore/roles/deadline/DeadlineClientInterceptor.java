@@ -0,0 +1,33 @@
+package com.ecore.roles.deadline;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Skips calls to the Users and Teams APIs once the deadline has passed, and tells them how much of
+ * it is left.
+ */
+@RequiredArgsConstructor
+public class DeadlineClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String header;
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution)
+            throws IOException {
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            deadline.check("upstream call");
+            request.getHeaders().set(header, String.valueOf(deadline.remaining().toMillis()));
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecore.roles.deadline;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Tells the Users and Teams APIs how much of the deadline is left on non-blocking calls. Those run
+ * on the event loop, so the deadline travels in the Reactor context rather than in
+ * {@link Deadline#current()}.
+ */
+@RequiredArgsConstructor
+public class DeadlineExchangeFilter implements ExchangeFilterFunction {
+
+    private final String header;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            Optional<Deadline> deadline = context.getOrEmpty(Deadline.class);
+            if (deadline.isEmpty()) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(header, String.valueOf(deadline.get().remaining().toMillis()))
+                    .build());
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecore.roles.deadline;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Opens the {@link Deadline} of each request from the timeout header, in milliseconds, or from the
+ * default timeout when the header is missing or unreadable. Asynchronous handlers capture the
+ * deadline when they start their work, so it is not reopened on the async dispatch.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final String header;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain)
+            throws ServletException, IOException {
+        Deadline.set(Deadline.after(timeoutOf(request)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+        }
+    }
+
+    private Duration timeoutOf(HttpServletRequest request) {
+        String value = request.getHeader(header);
+        if (value == null) {
+            return defaultTimeout;
+        }
+        try {
+            Duration timeout = Duration.ofMillis(Math.max(Long.parseLong(value.trim()), 0));
+            return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring {} header '{}'", header, value);
+            return defaultTimeout;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecore.roles.deadline;
+
+import com.ecore.roles.monitoring.RepositoryInvocationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+
+/**
+ * Skips repository calls once the deadline has passed, and gives the queries of the request's
+ * entity manager a JDBC timeout of the time left.
+ */
+@RequiredArgsConstructor
+public class DeadlineRepositoryInterceptor implements RepositoryInvocationInterceptor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return invocation.proceed();
+        }
+        deadline.check("repository call");
+        EntityManager entityManager =
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.setProperty(QueryHints.SPEC_HINT_TIMEOUT, queryTimeoutMillis(deadline.remaining()));
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * JDBC timeouts are whole seconds and Hibernate rounds the hint to the nearest one, which would
+     * turn a budget under half a second into no timeout at all; round up instead.
+     */
+    static int queryTimeoutMillis(Duration remaining) {
+        long seconds = Math.max((remaining.toMillis() + 999) / 1000, 1);
+        return (int) Math.min(seconds * 1000, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecore.roles.exception;
+
+import static java.lang.String.format;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super(format("Batch of %d ids exceeds the maximum of %d", size, maxSize));
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecore.roles.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String resource, Duration retryAfter) {
+        super(format("Too many concurrent %s requests, retry later", resource));
+        this.retryAfter = retryAfter;
+    }
+}
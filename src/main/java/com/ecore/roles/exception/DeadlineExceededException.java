@@ -0,0 +1,10 @@
+package com.ecore.roles.exception;
+
+import static java.lang.String.format;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String operation) {
+        super(format("Request deadline exceeded before the %s completed", operation));
+    }
+}
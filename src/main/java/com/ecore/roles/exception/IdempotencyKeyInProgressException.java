@@ -0,0 +1,8 @@
+package com.ecore.roles.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("A request with this Idempotency-Key is still in progress, retry later");
+    }
+}
@@ -0,0 +1,277 @@
+package com.ecore.roles.idempotency;
+
+import com.ecore.roles.configuration.IdempotencyConfigurationProperties;
+import com.ecore.roles.exception.IdempotencyKeyInProgressException;
+import com.ecore.roles.exception.IdempotencyKeyReusedException;
+import com.ecore.roles.model.IdempotencyRecord;
+import com.ecore.roles.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Makes a write safe to retry. The first successful response to a request sent with an
+ * {@code Idempotency-Key} is kept for {@code idempotency.ttl}, in a bounded in-memory LRU and in
+ * the {@code idempotency_record} table behind it. Retries of the same request with the same key get
+ * that response back without running the write again; reusing a key for a different request is
+ * refused. The key's row is inserted before the write and completed with its response in the same
+ * transaction, so its primary key keeps a concurrent request with the same key from running the
+ * write as well, and the write never commits without its response.
+ */
+@Log4j2
+@Component
+public class IdempotentResponses {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String REQUESTS_METRIC = "roles.idempotency.requests";
+
+    private final IdempotencyConfigurationProperties idempotencyConfigurationProperties;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, IdempotencyRecord> recent;
+    private final AtomicLong lastPurgeNanos = new AtomicLong(System.nanoTime());
+
+    public IdempotentResponses(
+            IdempotencyConfigurationProperties idempotencyConfigurationProperties,
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.idempotencyConfigurationProperties = idempotencyConfigurationProperties;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(idempotencyConfigurationProperties.getMaxEntries())
+                .expireAfter(new UntilExpired())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, "idempotency");
+    }
+
+    /**
+     * Runs {@code write}, or replays its stored response when {@code key} was seen before.
+     * {@code fingerprint} identifies the request, to tell retries from a reused key; without a key the
+     * write simply runs. A retry that arrives while the first request still runs waits for its row
+     * lock, as long as the database lets it, and is then answered from the stored response or refused
+     * with {@link IdempotencyKeyInProgressException}.
+     */
+    public <T> ResponseEntity<T> execute(
+            String key,
+            String fingerprint,
+            Class<T> type,
+            Supplier<ResponseEntity<T>> write) {
+        if (key == null) {
+            return write.get();
+        }
+        String keyHash = sha256(key);
+        IdempotencyRecord stored = find(keyHash);
+        if (stored != null) {
+            return replay(stored, fingerprint, type);
+        }
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .keyHash(keyHash)
+                .requestFingerprint(fingerprint)
+                .responseBody("")
+                .createdAt(Instant.now())
+                .build();
+        ResponseEntity<T> response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                reserve(record);
+                ResponseEntity<T> written = write.get();
+                if (written.getStatusCode().is2xxSuccessful()) {
+                    record.setResponseStatus(written.getStatusCodeValue());
+                    record.setResponseBody(write(written.getBody()));
+                    idempotencyRecordRepository.saveAndFlush(record);
+                } else {
+                    idempotencyRecordRepository.delete(record);
+                }
+                return written;
+            });
+        } catch (KeyInProgress e) {
+            return afterConcurrentRequest(keyHash, fingerprint, type);
+        } catch (TransactionSystemException e) {
+            // a lock timeout can leave the connection broken, so rolling back the reservation fails too
+            if (!(e.getApplicationException() instanceof KeyInProgress)) {
+                throw e;
+            }
+            return afterConcurrentRequest(keyHash, fingerprint, type);
+        }
+        if (response.getStatusCode().is2xxSuccessful()) {
+            recent.put(keyHash, record);
+            count("stored");
+            purgeExpired();
+        }
+        return response;
+    }
+
+    private <T> ResponseEntity<T> afterConcurrentRequest(String keyHash, String fingerprint, Class<T> type) {
+        IdempotencyRecord stored = find(keyHash);
+        if (stored == null) {
+            count("in_progress");
+            throw new IdempotencyKeyInProgressException();
+        }
+        return replay(stored, fingerprint, type);
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord stored, String fingerprint, Class<T> type) {
+        if (!stored.getRequestFingerprint().equals(fingerprint)) {
+            count("conflict");
+            throw new IdempotencyKeyReusedException();
+        }
+        count("replayed");
+        return ResponseEntity
+                .status(stored.getResponseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(read(stored, type));
+    }
+
+    /**
+     * Inserts the key's row with no response yet, which fails, or first waits, while another
+     * transaction holds the same key.
+     */
+    private void reserve(IdempotencyRecord record) {
+        try {
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+            throw new KeyInProgress(e);
+        }
+    }
+
+    private IdempotencyRecord find(String keyHash) {
+        IdempotencyRecord record = recent.getIfPresent(keyHash);
+        if (record == null) {
+            record = idempotencyRecordRepository.findById(keyHash)
+                    .filter(found -> expiresIn(found) > 0)
+                    .orElse(null);
+            if (record != null) {
+                recent.put(keyHash, record);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Deletes the expired rows at most once per {@code idempotency.purge-interval}, from whichever
+     * write comes first after it.
+     */
+    private void purgeExpired() {
+        long last = lastPurgeNanos.get();
+        long now = System.nanoTime();
+        if (now - last < idempotencyConfigurationProperties.getPurgeInterval().toNanos()
+                || !lastPurgeNanos.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            int purged = idempotencyRecordRepository
+                    .deleteCreatedBefore(Instant.now().minus(idempotencyConfigurationProperties.getTtl()));
+            log.debug("Purged {} expired idempotency records", purged);
+        } catch (DataAccessException e) {
+            log.warn("Could not purge the expired idempotency records", e);
+        }
+    }
+
+    private long expiresIn(IdempotencyRecord record) {
+        return Duration.between(Instant.now(),
+                record.getCreatedAt().plus(idempotencyConfigurationProperties.getTtl())).toNanos();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(REQUESTS_METRIC, "outcome", outcome).increment();
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store the response for an idempotency key", e);
+        }
+    }
+
+    private <T> T read(IdempotencyRecord record, Class<T> type) {
+        try {
+            return objectMapper.readValue(record.getResponseBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not replay the response for an idempotency key", e);
+        }
+    }
+
+    private static String sha256(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Another transaction holds the key, thrown to roll back the reservation.
+     */
+    private static class KeyInProgress extends RuntimeException {
+
+        KeyInProgress(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Keeps each response in memory until its stored time to live is up, also when it was read back
+     * from the database.
+     */
+    private class UntilExpired implements Expiry<String, IdempotencyRecord> {
+
+        @Override
+        public long expireAfterCreate(String key, IdempotencyRecord record, long currentTime) {
+            return Math.max(expiresIn(record), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String key,
+                IdempotencyRecord record,
+                long currentTime,
+                long currentDuration) {
+            return Math.max(expiresIn(record), 0);
+        }
+
+        @Override
+        public long expireAfterRead(
+                String key,
+                IdempotencyRecord record,
+                long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecore.roles.imports;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * How far an import has got: the offset of the first line not yet committed and the counts so far,
+ * for the file of the given size and modification time and the database of the given identity.
+ * Saved next to the imported file after every batch by writing a new file and moving it over the
+ * old one, so a crash leaves either.
+ */
+@Value
+class ImportCheckpoint {
+
+    String databaseId;
+    long fileSize;
+    long fileModified;
+    long offset;
+    long lineNumber;
+    long imported;
+    long rejected;
+
+    static ImportCheckpoint start(Path file, String databaseId) throws IOException {
+        return new ImportCheckpoint(databaseId, Files.size(file), Files.getLastModifiedTime(file).toMillis(),
+                0, 0, 0, 0);
+    }
+
+    /**
+     * The saved checkpoint if it belongs to {@code file} as it is now and was written against the same
+     * database, otherwise a fresh start.
+     */
+    static ImportCheckpoint load(Path file, Path checkpointFile, String databaseId) throws IOException {
+        ImportCheckpoint start = start(file, databaseId);
+        if (!Files.exists(checkpointFile)) {
+            return start;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile)) {
+            properties.load(reader);
+        }
+        ImportCheckpoint saved = new ImportCheckpoint(
+                properties.getProperty("databaseId"),
+                Long.parseLong(properties.getProperty("fileSize")),
+                Long.parseLong(properties.getProperty("fileModified")),
+                Long.parseLong(properties.getProperty("offset")),
+                Long.parseLong(properties.getProperty("lineNumber")),
+                Long.parseLong(properties.getProperty("imported")),
+                Long.parseLong(properties.getProperty("rejected")));
+        return databaseId.equals(saved.databaseId) && saved.fileSize == start.fileSize
+                && saved.fileModified == start.fileModified ? saved : start;
+    }
+
+    ImportCheckpoint advance(long offset, long lineNumber, long imported, long rejected) {
+        return new ImportCheckpoint(databaseId, fileSize, fileModified, offset, lineNumber,
+                this.imported + imported, this.rejected + rejected);
+    }
+
+    boolean isResumed() {
+        return offset > 0;
+    }
+
+    void save(Path checkpointFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("databaseId", databaseId);
+        properties.setProperty("fileSize", String.valueOf(fileSize));
+        properties.setProperty("fileModified", String.valueOf(fileModified));
+        properties.setProperty("offset", String.valueOf(offset));
+        properties.setProperty("lineNumber", String.valueOf(lineNumber));
+        properties.setProperty("imported", String.valueOf(imported));
+        properties.setProperty("rejected", String.valueOf(rejected));
+        Path next = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".next");
+        try (Writer writer = Files.newBufferedWriter(next)) {
+            properties.store(writer, null);
+        }
+        Files.move(next, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecore.roles.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a file through windows of memory-mapped pages, so files far larger than the
+ * heap stream through without read calls or buffer copies beyond the current line. Reading can
+ * start at any line boundary, which is what a checkpoint records.
+ */
+final class MappedLineReader implements Closeable {
+
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private byte[] line = new byte[256];
+
+    MappedLineReader(Path file, long startOffset) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.position = startOffset;
+    }
+
+    /**
+     * The next line without its {@code \n} or {@code \r\n} terminator, or {@code null} at the end of
+     * the file.
+     */
+    String next() throws IOException {
+        if (position >= size) {
+            return null;
+        }
+        int length = 0;
+        while (position < size) {
+            if (window == null || position >= windowStart + window.limit()) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                        Math.min(WINDOW_SIZE, size - windowStart));
+            }
+            byte b = window.get((int) (position++ - windowStart));
+            if (b == '\n') {
+                break;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The offset just past the last line returned.
+     */
+    long position() {
+        return position;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecore.roles.imports;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Starts the application without the web server when it only runs {@link MembershipImportRunner}
+ * and exits, so the import does not bind the server port of an instance running on the same host.
+ * Setting {@code spring.main.web-application-type} explicitly still takes precedence.
+ */
+public class MembershipImportEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String WEB_APPLICATION_TYPE = "spring.main.web-application-type";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.containsProperty("membership-import.file")
+                && environment.getProperty("membership-import.exit-when-done", Boolean.class, true)
+                && !environment.containsProperty(WEB_APPLICATION_TYPE)) {
+            environment.getPropertySources().addLast(
+                    new MapPropertySource("membershipImport", Map.of(WEB_APPLICATION_TYPE, "none")));
+        }
+    }
+}
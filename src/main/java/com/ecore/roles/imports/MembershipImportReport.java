@@ -0,0 +1,19 @@
+package com.ecore.roles.imports;
+
+import lombok.Value;
+
+/**
+ * Totals of an import, resumed runs included, and the rate of the last run.
+ */
+@Value
+public class MembershipImportReport {
+
+    long imported;
+    long rejected;
+    long rowsThisRun;
+    double seconds;
+
+    public double getRowsPerSecond() {
+        return seconds > 0 ? rowsThisRun / seconds : 0;
+    }
+}
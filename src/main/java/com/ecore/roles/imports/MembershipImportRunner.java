@@ -0,0 +1,53 @@
+package com.ecore.roles.imports;
+
+import com.ecore.roles.configuration.MembershipImportConfigurationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Runs {@link MembershipImporter} on {@code membership-import.file} at startup, before the warm-up,
+ * e.g. {@code java -jar roles-api.jar --membership-import.file=memberships.csv}. Unless
+ * {@code membership-import.exit-when-done} is off, the application runs without the web server, see
+ * {@link MembershipImportEnvironmentPostProcessor}.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "membership-import", name = "file")
+public class MembershipImportRunner implements ApplicationRunner {
+
+    private final MembershipImportConfigurationProperties membershipImportConfigurationProperties;
+    private final MembershipImporter membershipImporter;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            MembershipImportReport report =
+                    membershipImporter.importFile(membershipImportConfigurationProperties.getFile());
+            log.info("Import of {} finished: {} rows imported, {} rejected, {} rows/s",
+                    membershipImportConfigurationProperties.getFile(), report.getImported(),
+                    report.getRejected(), String.format(Locale.ROOT, "%.0f", report.getRowsPerSecond()));
+        } catch (Exception e) {
+            log.error("Import of {} failed; run it again to resume",
+                    membershipImportConfigurationProperties.getFile(), e);
+            exitCode = 1;
+        }
+        if (membershipImportConfigurationProperties.isExitWhenDone()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.ecore.roles.imports;
+
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.configuration.MembershipImportConfigurationProperties;
+import com.ecore.roles.imports.MembershipRowParser.Row;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.repository.RoleRepository;
+import com.ecore.roles.web.dto.MembershipDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Loads memberships from a CSV or NDJSON file, bypassing the per-request write path. Lines are
+ * streamed through a {@link MappedLineReader}, role ids are checked against the roles read once at
+ * the start, and rows are inserted in JDBC batches of {@code membership-import.batch-size}, one
+ * transaction each, which also bumps the memberships version so running servers see the new rows.
+ * After every batch the position is saved to {@code <file>.checkpoint}, so an interrupted import
+ * resumes after the last committed batch, as long as it runs against the same database; rows of a
+ * batch that was committed but not checkpointed are skipped as existing memberships when it is
+ * replayed. Rejected lines are written with their line number and reason to
+ * {@code <file>.rejected}.
+ */
+@Log4j2
+@Component
+public class MembershipImporter {
+
+    static final String INSERT_MEMBERSHIP = "insert into membership (id, role_id, team_id, user_id) "
+            + "select ?, ?, ?, ? where not exists "
+            + "(select 1 from membership where team_id = ? and user_id = ?)";
+
+    private static final String SELECT_DATABASE_ID =
+            "select id from database_identity where name = 'database'";
+    private static final String INSERT_DATABASE_ID =
+            "insert into database_identity (name, id) values ('database', ?)";
+
+    private final MembershipImportConfigurationProperties membershipImportConfigurationProperties;
+    private final RoleRepository roleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+
+    public MembershipImporter(
+            MembershipImportConfigurationProperties membershipImportConfigurationProperties,
+            RoleRepository roleRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ResourceVersions resourceVersions) {
+        this.membershipImportConfigurationProperties = membershipImportConfigurationProperties;
+        this.roleRepository = roleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.resourceVersions = resourceVersions;
+    }
+
+    public MembershipImportReport importFile(Path file) throws IOException {
+        Path checkpointFile = sibling(file, ".checkpoint");
+        ImportCheckpoint checkpoint = ImportCheckpoint.load(file, checkpointFile, databaseId());
+        if (checkpoint.isResumed()) {
+            log.info("Resuming import of {} after line {}", file, checkpoint.getLineNumber());
+        }
+        Set<UUID> roleIds = roleRepository.findAll().stream().map(Role::getId).collect(Collectors.toSet());
+        MembershipRowParser parser = parserFor(file);
+        int batchSize = membershipImportConfigurationProperties.getBatchSize();
+        long progressIntervalNanos = membershipImportConfigurationProperties.getProgressInterval().toNanos();
+
+        long start = System.nanoTime();
+        long lastProgress = start;
+        long rowsThisRun = 0;
+        try (MappedLineReader reader = new MappedLineReader(file, checkpoint.getOffset());
+                Writer rejects = Files.newBufferedWriter(sibling(file, ".rejected"), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        checkpoint.isResumed() ? StandardOpenOption.APPEND
+                                : StandardOpenOption.TRUNCATE_EXISTING)) {
+            Batch batch = new Batch(batchSize);
+            long lineNumber = checkpoint.getLineNumber();
+            String line;
+            while ((line = reader.next()) != null) {
+                lineNumber++;
+                if (line.isBlank() || parser.isHeader(lineNumber)) {
+                    continue;
+                }
+                rowsThisRun++;
+                try {
+                    Row row = parser.parse(line);
+                    if (roleIds.contains(row.getRoleId())) {
+                        batch.add(row, lineNumber, line);
+                    } else {
+                        batch.reject(lineNumber, "unknown role " + row.getRoleId(), line);
+                    }
+                } catch (IllegalArgumentException e) {
+                    batch.reject(lineNumber, e.getMessage(), line);
+                }
+                if (batch.size() >= batchSize) {
+                    checkpoint = commit(batch, checkpoint.advance(reader.position(), lineNumber, 0, 0),
+                            checkpointFile, rejects);
+                }
+                long now = System.nanoTime();
+                if (now - lastProgress >= progressIntervalNanos) {
+                    lastProgress = now;
+                    log.info("Imported {} and rejected {} rows of {}, {} rows/s",
+                            checkpoint.getImported(), checkpoint.getRejected(), file,
+                            String.format(Locale.ROOT, "%.0f", rowsThisRun / seconds(now - start)));
+                }
+            }
+            checkpoint = commit(batch, checkpoint.advance(reader.position(), lineNumber, 0, 0),
+                    checkpointFile, rejects);
+        }
+        Files.deleteIfExists(checkpointFile);
+        return new MembershipImportReport(checkpoint.getImported(), checkpoint.getRejected(), rowsThisRun,
+                seconds(System.nanoTime() - start));
+    }
+
+    /**
+     * Random id stored in the database the first time it is asked for, so a checkpoint is never resumed
+     * against another database, or a new one at the same URL such as an in-memory database.
+     */
+    String databaseId() {
+        List<String> ids = jdbcTemplate.queryForList(SELECT_DATABASE_ID, String.class);
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        try {
+            jdbcTemplate.update(INSERT_DATABASE_ID, UUID.randomUUID().toString());
+        } catch (DuplicateKeyException e) {
+            log.debug("Database id was stored concurrently", e);
+        }
+        return jdbcTemplate.queryForObject(SELECT_DATABASE_ID, String.class);
+    }
+
+    /**
+     * Inserts the batch and bumps the memberships version in one transaction, then records its rejects
+     * and moves the checkpoint past it.
+     */
+    private ImportCheckpoint commit(Batch batch, ImportCheckpoint next, Path checkpointFile, Writer rejects)
+            throws IOException {
+        long imported = 0;
+        if (!batch.rows.isEmpty()) {
+            int[][] counts = transactionTemplate.execute(status -> {
+                int[][] inserted = jdbcTemplate.batchUpdate(
+                        INSERT_MEMBERSHIP, batch.rows, batch.rows.size(), (statement, row) -> {
+                            statement.setString(1, UUID.randomUUID().toString());
+                            statement.setString(2, row.getRoleId().toString());
+                            statement.setBytes(3, bytes(row.getTeamId()));
+                            statement.setBytes(4, bytes(row.getUserId()));
+                            statement.setBytes(5, bytes(row.getTeamId()));
+                            statement.setBytes(6, bytes(row.getUserId()));
+                        });
+                resourceVersions.membershipsChanged();
+                return inserted;
+            });
+            int i = 0;
+            for (int[] chunk : counts) {
+                for (int count : chunk) {
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        imported++;
+                    } else {
+                        batch.reject(batch.lineNumbers.get(i), "membership of this user in this team exists",
+                                batch.lines.get(i));
+                    }
+                    i++;
+                }
+            }
+        }
+        for (String rejected : batch.rejected) {
+            rejects.write(rejected);
+            rejects.write('\n');
+        }
+        rejects.flush();
+        ImportCheckpoint checkpoint = next.advance(next.getOffset(), next.getLineNumber(), imported,
+                batch.rejected.size());
+        checkpoint.save(checkpointFile);
+        batch.clear();
+        return checkpoint;
+    }
+
+    private MembershipRowParser parserFor(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return MembershipRowParser.ndjson(objectMapper.readerFor(MembershipDto.class));
+        }
+        try (MappedLineReader reader = new MappedLineReader(file, 0)) {
+            String firstLine = reader.next();
+            return MembershipRowParser.csv(firstLine == null ? "" : firstLine);
+        }
+    }
+
+    /**
+     * The 16 big-endian bytes Hibernate stores for a {@link UUID} column.
+     */
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private static double seconds(long nanos) {
+        return Math.max(nanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static class Batch {
+
+        private final List<Row> rows;
+        private final List<Long> lineNumbers;
+        private final List<String> lines;
+        private final List<String> rejected = new ArrayList<>();
+
+        Batch(int capacity) {
+            rows = new ArrayList<>(capacity);
+            lineNumbers = new ArrayList<>(capacity);
+            lines = new ArrayList<>(capacity);
+        }
+
+        void add(Row row, long lineNumber, String line) {
+            rows.add(row);
+            lineNumbers.add(lineNumber);
+            lines.add(line);
+        }
+
+        void reject(long lineNumber, String reason, String line) {
+            rejected.add(lineNumber + "\t" + reason + "\t" + line);
+        }
+
+        int size() {
+            return rows.size() + rejected.size();
+        }
+
+        void clear() {
+            rows.clear();
+            lineNumbers.clear();
+            lines.clear();
+            rejected.clear();
+        }
+    }
+}
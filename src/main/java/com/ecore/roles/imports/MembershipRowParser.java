@@ -0,0 +1,120 @@
+package com.ecore.roles.imports;
+
+import com.ecore.roles.web.dto.MembershipDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Turns a line of an import file into a {@link Row}, throwing {@link IllegalArgumentException} for
+ * lines that do not hold a membership. NDJSON lines use the field names of the API; CSV files list
+ * {@code teamMemberId,teamId,roleId} in that order unless a header line names the columns.
+ */
+abstract class MembershipRowParser {
+
+    private static final List<String> COLUMNS = List.of("teamMemberId", "teamId", "roleId");
+
+    abstract Row parse(String line);
+
+    /**
+     * Whether the line at {@code lineNumber}, counted from 1, is a header to skip.
+     */
+    boolean isHeader(long lineNumber) {
+        return false;
+    }
+
+    static MembershipRowParser ndjson(ObjectReader membershipReader) {
+        return new MembershipRowParser() {
+
+            @Override
+            Row parse(String line) {
+                try {
+                    MembershipDto membership = membershipReader.readValue(line);
+                    return new Row(
+                            required(membership.getUserId(), "teamMemberId"),
+                            required(membership.getTeamId(), "teamId"),
+                            required(membership.getRoleId(), "roleId"));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("not a JSON membership: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * A CSV parser for the file whose first line is {@code firstLine}.
+     */
+    static MembershipRowParser csv(String firstLine) {
+        String[] names = split(firstLine);
+        boolean header =
+                names.length > 0 && COLUMNS.stream().anyMatch(column -> column.equalsIgnoreCase(names[0]));
+        int[] indexes = new int[COLUMNS.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = header ? indexOf(names, COLUMNS.get(i)) : i;
+        }
+        return new MembershipRowParser() {
+
+            @Override
+            Row parse(String line) {
+                String[] fields = split(line);
+                return new Row(
+                        uuid(fields, indexes[0], COLUMNS.get(0)),
+                        uuid(fields, indexes[1], COLUMNS.get(1)),
+                        uuid(fields, indexes[2], COLUMNS.get(2)));
+            }
+
+            @Override
+            boolean isHeader(long lineNumber) {
+                return header && lineNumber == 1;
+            }
+        };
+    }
+
+    private static String[] split(String line) {
+        String[] fields = line.split(",", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        return fields;
+    }
+
+    private static int indexOf(String[] names, String column) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equalsIgnoreCase(column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+                "CSV header " + Arrays.toString(names) + " has no " + column + " column");
+    }
+
+    private static UUID uuid(String[] fields, int index, String column) {
+        if (index >= fields.length || fields[index].isEmpty()) {
+            throw new IllegalArgumentException("missing " + column);
+        }
+        try {
+            return UUID.fromString(fields[index]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + fields[index] + "'");
+        }
+    }
+
+    private static UUID required(UUID value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("missing " + field);
+        }
+        return value;
+    }
+
+    @Value
+    static class Row {
+
+        UUID userId;
+        UUID teamId;
+        UUID roleId;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecore.roles.limit;
+
+import com.ecore.roles.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admits a request to a {@link ConcurrencyLimited} handler only while its resource is under its
+ * limit, and feeds the outcome back to the limiter once the response is complete, including after
+ * asynchronous handling.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    static final String REJECTIONS_METRIC = "roles.concurrency.rejections";
+
+    private static final String ADMITTED = ConcurrencyLimitInterceptor.class.getName() + ".ADMITTED";
+
+    private final Map<LimitedResource, AimdLimiter> limiters;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        LimitedResource resource = resourceOf((HandlerMethod) handler);
+        if (resource == null) {
+            return true;
+        }
+        if (!limiters.get(resource).tryAcquire()) {
+            meterRegistry.counter(REJECTIONS_METRIC, "resource", resource.name().toLowerCase()).increment();
+            throw new ConcurrencyLimitExceededException(resource.name().toLowerCase(), retryAfter);
+        }
+        request.setAttribute(ADMITTED, new Admission(resource, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception exception) {
+        Admission admission = (Admission) request.getAttribute(ADMITTED);
+        if (admission == null) {
+            return;
+        }
+        request.removeAttribute(ADMITTED);
+        limiters.get(admission.resource).release(
+                System.nanoTime() - admission.startNanos,
+                exception != null || response.getStatus() >= 500);
+    }
+
+    private static LimitedResource resourceOf(HandlerMethod handler) {
+        ConcurrencyLimited limited = handler.getMethodAnnotation(ConcurrencyLimited.class);
+        if (limited == null) {
+            limited = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(),
+                    ConcurrencyLimited.class);
+        }
+        return limited == null ? null : limited.value();
+    }
+
+    @RequiredArgsConstructor
+    private static class Admission {
+
+        private final LimitedResource resource;
+        private final long startNanos;
+    }
+}
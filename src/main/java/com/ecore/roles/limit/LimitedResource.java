@@ -0,0 +1,9 @@
+package com.ecore.roles.limit;
+
+/**
+ * What an endpoint mostly waits on; each has its own concurrency limit.
+ */
+public enum LimitedResource {
+    DATABASE,
+    UPSTREAM
+}
@@ -0,0 +1,41 @@
+package com.ecore.roles.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.Instant;
+
+/**
+ * The response first given to a request sent with an {@code Idempotency-Key}, stored under the
+ * SHA-256 of the key so keys of any length fit.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+public class IdempotencyRecord {
+
+    @Id
+    private String keyHash;
+
+    @Column(nullable = false)
+    private String requestFingerprint;
+
+    @Column(nullable = false)
+    private int responseStatus;
+
+    @Column(nullable = false, length = 4096)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+}
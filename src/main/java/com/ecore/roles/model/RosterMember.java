@@ -0,0 +1,19 @@
+package com.ecore.roles.model;
+
+import com.ecore.roles.client.model.User;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+public class RosterMember {
+
+    UUID userId;
+
+    User user;
+
+    Role role;
+
+}
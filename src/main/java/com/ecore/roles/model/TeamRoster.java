@@ -0,0 +1,23 @@
+package com.ecore.roles.model;
+
+import com.ecore.roles.client.model.Team;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A team together with the details and role of each of its members. {@code complete} is false when
+ * some member details could not be fetched in time; those members carry only their id and role.
+ */
+@Value
+@Builder
+public class TeamRoster {
+
+    Team team;
+
+    List<RosterMember> members;
+
+    boolean complete;
+
+}
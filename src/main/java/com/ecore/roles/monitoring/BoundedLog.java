@@ -0,0 +1,39 @@
+package com.ecore.roles.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Fixed-capacity, newest-first buffer; the oldest entry is dropped when it is full.
+ */
+public class BoundedLog<T> {
+
+    private final int capacity;
+    private final Deque<T> entries;
+
+    public BoundedLog(int capacity) {
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void add(T entry) {
+        if (capacity == 0) {
+            return;
+        }
+        if (entries.size() == capacity) {
+            entries.removeLast();
+        }
+        entries.addFirst(entry);
+    }
+
+    public synchronized List<T> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecore.roles.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ecore.roles.Cache")
+@Label("Cache Operation")
+@Category({"Roles API", "Cache"})
+@Description("Lookup, put or eviction on one of the application caches")
+@StackTrace(false)
+public class CacheEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Resource Id")
+    String resourceId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Entries")
+    @Description("Elements in the cached value, 1 for a single resource")
+    long entries;
+}
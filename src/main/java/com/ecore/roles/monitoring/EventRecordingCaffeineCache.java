@@ -0,0 +1,98 @@
+package com.ecore.roles.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+
+/**
+ * {@link CaffeineCache} that emits a {@link CacheEvent} for lookups, puts and evictions while a
+ * recording has it enabled. It stays a {@link CaffeineCache} so the cache metrics still bind to it.
+ */
+public class EventRecordingCaffeineCache extends CaffeineCache {
+
+    public EventRecordingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheEvent event = new CacheEvent();
+        if (!event.isEnabled()) {
+            return super.lookup(key);
+        }
+        event.begin();
+        Object value = super.lookup(key);
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = value == null ? "MISS" : "HIT";
+            event.entries = entries(value);
+            commit(event, "get", key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        CacheEvent event = new CacheEvent();
+        if (!event.isEnabled()) {
+            super.put(key, value);
+            return;
+        }
+        event.begin();
+        super.put(key, value);
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = "SUCCESS";
+            event.entries = entries(value);
+            commit(event, "put", key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        CacheEvent event = new CacheEvent();
+        if (!event.isEnabled()) {
+            super.evict(key);
+            return;
+        }
+        event.begin();
+        super.evict(key);
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, "evict", key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        CacheEvent event = new CacheEvent();
+        if (!event.isEnabled()) {
+            super.clear();
+            return;
+        }
+        event.begin();
+        super.clear();
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, "clear", null);
+        }
+    }
+
+    private void commit(CacheEvent event, String operation, Object key) {
+        event.cache = getName();
+        event.operation = operation;
+        event.resourceId = key == null ? null : key.toString();
+        if (event.outcome == null) {
+            event.outcome = "SUCCESS";
+        }
+        event.commit();
+    }
+
+    private static long entries(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        return value instanceof Collection ? ((Collection<?>) value).size() : 1;
+    }
+}
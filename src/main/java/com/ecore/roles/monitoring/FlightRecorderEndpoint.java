@@ -0,0 +1,135 @@
+package com.ecore.roles.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Controls a JDK Flight Recorder recording at {@code /actuator/flightrecorder}: {@code POST} starts
+ * one with the {@code default} or {@code profile} settings, {@code DELETE} stops it and {@code GET}
+ * downloads the running recording or the last stopped one. The recording includes the
+ * {@link UpstreamCallEvent}, {@link RepositoryCallEvent} and {@link CacheEvent} events, but not the
+ * environment variables, system properties and JVM arguments, which can hold secrets.
+ */
+@Log4j2
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "profile";
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(10);
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private Recording recording;
+    private Path dump;
+
+    @WriteOperation
+    public synchronized RecordingStatus start(@Nullable String settings, @Nullable Duration maxAge) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        closeRecording();
+        String settingsName = settings == null ? DEFAULT_SETTINGS : settings;
+        try {
+            recording = new Recording(Configuration.getConfiguration(settingsName));
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown recording settings " + settingsName,
+                    "Unknown recording settings");
+        }
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.setName("roles-api");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge == null ? DEFAULT_MAX_AGE : maxAge);
+        recording.start();
+        log.info("Flight recording started with {} settings", settingsName);
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            dump = dumpRecording();
+            log.info("Flight recording stopped and written to {}", dump);
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            dump = dumpRecording();
+        }
+        return dump == null ? null : new FileSystemResource(dump);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+        deleteDump();
+    }
+
+    private RecordingStatus status() {
+        return new RecordingStatus(
+                recording == null ? null : recording.getState().name(),
+                recording == null ? null : recording.getStartTime(),
+                recording == null ? null : recording.getMaxAge());
+    }
+
+    private Path dumpRecording() {
+        try {
+            deleteDump();
+            Path file = Files.createTempFile("roles-api-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the flight recording", e);
+        }
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteDump() {
+        if (dump != null) {
+            try {
+                Files.deleteIfExists(dump);
+            } catch (IOException e) {
+                log.warn("Could not delete {}", dump, e);
+            }
+            dump = null;
+        }
+    }
+
+    @Value
+    public static class RecordingStatus {
+
+        String state;
+        Instant startTime;
+        Duration maxAge;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecore.roles.monitoring;
+
+import lombok.Value;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Exposes the Hibernate statistics per query together with the slow-query log at
+ * {@code /actuator/querystats}. A high entity fetch or statement count compared to the query count
+ * points at N+1 loading; a high mean time on a simple lookup points at a missing index.
+ */
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final SlowQueryLog slowQueryLog;
+
+    public QueryStatisticsEndpoint(EntityManagerFactory entityManagerFactory, SlowQueryLog slowQueryLog) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public Report report() {
+        List<QueryReport> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> QueryReport.of(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryReport::getTotalMillis).reversed())
+                .collect(Collectors.toList());
+        return new Report(
+                statistics.isStatisticsEnabled(),
+                statistics.getStartTime(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionFetchCount(),
+                queries,
+                slowQueryLog.getEntries());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+        slowQueryLog.clear();
+    }
+
+    @Value
+    public static class Report {
+
+        boolean enabled;
+        long sinceEpochMillis;
+        long statements;
+        long queryExecutions;
+        long entityLoads;
+        long entityFetches;
+        long collectionFetches;
+        List<QueryReport> queries;
+        List<SlowQuery> slowQueries;
+    }
+
+    @Value
+    public static class QueryReport {
+
+        String query;
+        long executions;
+        double meanMillis;
+        long maxMillis;
+        long totalMillis;
+        long rows;
+
+        static QueryReport of(String query, QueryStatistics statistics) {
+            return new QueryReport(
+                    query,
+                    statistics.getExecutionCount(),
+                    statistics.getExecutionAvgTimeAsDouble(),
+                    statistics.getExecutionMaxTime(),
+                    statistics.getExecutionTotalTime(),
+                    statistics.getExecutionRowCount());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecore.roles.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.ecore.roles.RepositoryCall")
+@Label("Repository Call")
+@Category({"Roles API", "Database"})
+@Description("Call to a Spring Data repository method")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository Method")
+    String repositoryMethod;
+
+    @Label("Resource Id")
+    @Description("First argument when it is an id or a name")
+    String resourceId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows")
+    @Description("Entities returned")
+    long rows;
+}
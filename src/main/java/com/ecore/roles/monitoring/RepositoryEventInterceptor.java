@@ -0,0 +1,62 @@
+package com.ecore.roles.monitoring;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Emits a {@link RepositoryCallEvent} for every repository call while a recording has it enabled.
+ */
+public class RepositoryEventInterceptor implements RepositoryInvocationInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        try {
+            Object result = invocation.proceed();
+            event.outcome = "SUCCESS";
+            event.rows = rows(result);
+            return result;
+        } catch (Throwable e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repositoryMethod = RepositoryInvocations.methodName(invocation);
+                event.resourceId = resourceId(invocation.getArguments());
+                event.commit();
+            }
+        }
+    }
+
+    private static String resourceId(Object[] arguments) {
+        if (arguments.length > 0 && (arguments[0] instanceof UUID || arguments[0] instanceof String)) {
+            return arguments[0].toString();
+        }
+        return null;
+    }
+
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecore.roles.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+
+/**
+ * Advice applied to every Spring Data repository proxy by
+ * {@link RepositoryMonitoringBeanPostProcessor}.
+ */
+public interface RepositoryInvocationInterceptor extends MethodInterceptor {
+}
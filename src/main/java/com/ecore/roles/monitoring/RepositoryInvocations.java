@@ -0,0 +1,30 @@
+package com.ecore.roles.monitoring;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+
+final class RepositoryInvocations {
+
+    private static final String APPLICATION_PACKAGE = "com.ecore.roles.";
+
+    private RepositoryInvocations() {}
+
+    /**
+     * Application repository interface and method, e.g. {@code RoleRepository.findAll} rather than the
+     * Spring Data interface that declares it.
+     */
+    static String methodName(MethodInvocation invocation) {
+        return repositoryName(invocation) + "." + invocation.getMethod().getName();
+    }
+
+    private static String repositoryName(MethodInvocation invocation) {
+        if (invocation instanceof ProxyMethodInvocation) {
+            for (Class<?> type : ((ProxyMethodInvocation) invocation).getProxy().getClass().getInterfaces()) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return invocation.getMethod().getDeclaringClass().getSimpleName();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecore.roles.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Adds the {@link RepositoryInvocationInterceptor} beans to the repository proxies when their
+ * factory beans are created, the same hook Spring Boot uses for its repository metrics.
+ */
+@RequiredArgsConstructor
+public class RepositoryMonitoringBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<RepositoryInvocationInterceptor> interceptors;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+            ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(
+                    factory -> factory
+                            .addRepositoryProxyPostProcessor((proxyFactory, information) -> interceptors
+                                    .orderedStream()
+                                    .forEach(proxyFactory::addAdvice)));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecore.roles.monitoring;
+
+public enum RequestPhase {
+
+    DESERIALIZE,
+    VALIDATE,
+    /**
+     * Time in the handler not spent in any other phase.
+     */
+    SERVICE,
+    REPOSITORY,
+    UPSTREAM,
+    SERIALIZE
+}
@@ -0,0 +1,101 @@
+package com.ecore.roles.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Time spent in each {@link RequestPhase} of the request handled by the current thread. Opened and
+ * closed by {@link RequestTimingFilter}; outside a request {@link #current()} is {@code null} and
+ * the recording hooks do nothing.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long handlerNanos;
+    private long handlerStart;
+    private long deserializeStart;
+    private long serializeStart;
+
+    private RequestTiming() {}
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public void add(RequestPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    void handlerStarted() {
+        handlerStart = System.nanoTime();
+    }
+
+    void handlerCompleted() {
+        long now = System.nanoTime();
+        if (serializeStart != 0) {
+            add(RequestPhase.SERIALIZE, now - serializeStart);
+            serializeStart = 0;
+        }
+        if (handlerStart != 0) {
+            handlerNanos += now - handlerStart;
+            handlerStart = 0;
+        }
+    }
+
+    void deserializeStarted() {
+        deserializeStart = System.nanoTime();
+    }
+
+    void deserializeCompleted() {
+        if (deserializeStart != 0) {
+            add(RequestPhase.DESERIALIZE, System.nanoTime() - deserializeStart);
+            deserializeStart = 0;
+        }
+    }
+
+    void serializeStarted() {
+        serializeStart = System.nanoTime();
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Milliseconds per phase, in {@link RequestPhase} order, followed by {@code other}: the time
+     * outside the handler spent in filters, dispatching and error handling.
+     */
+    Map<String, Double> breakdownMillis(long totalNanos) {
+        long service = handlerNanos;
+        for (RequestPhase phase : PHASES) {
+            if (phase != RequestPhase.SERVICE) {
+                service -= phaseNanos[phase.ordinal()];
+            }
+        }
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        for (RequestPhase phase : PHASES) {
+            long nanos = phase == RequestPhase.SERVICE ? Math.max(service, 0) : phaseNanos[phase.ordinal()];
+            breakdown.put(phase.name().toLowerCase(), toMillis(nanos));
+        }
+        breakdown.put("other", toMillis(Math.max(totalNanos - handlerNanos, 0)));
+        return breakdown;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
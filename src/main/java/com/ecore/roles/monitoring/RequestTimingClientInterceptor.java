@@ -0,0 +1,33 @@
+package com.ecore.roles.monitoring;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Adds the time spent waiting for the Users and Teams APIs to {@link RequestPhase#UPSTREAM}.
+ * Reading the response body happens after the exchange and is counted as service time.
+ */
+public class RequestTimingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution)
+            throws IOException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return execution.execute(request, body);
+        }
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            timing.add(RequestPhase.UPSTREAM, System.nanoTime() - start);
+        }
+    }
+}
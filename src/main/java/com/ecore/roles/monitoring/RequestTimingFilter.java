@@ -0,0 +1,80 @@
+package com.ecore.roles.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Opens a {@link RequestTiming} for each request and keeps the phase breakdown of the requests
+ * slower than the threshold. Fast requests only cost the timing object and a few clock reads.
+ * Asynchronous requests are measured until the response completes; the time between the handler
+ * returning and the result being dispatched is counted as {@code other}.
+ */
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final long slowRequestThresholdNanos;
+    private final SlowRequestLog slowRequestLog;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTiming.end();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(timing, request, response));
+            } else {
+                record(timing, request, response);
+            }
+        }
+    }
+
+    private void record(RequestTiming timing, HttpServletRequest request, HttpServletResponse response) {
+        long total = timing.elapsedNanos();
+        if (total >= slowRequestThresholdNanos) {
+            slowRequestLog.add(new SlowRequest(
+                    Instant.now(),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    response.getStatus(),
+                    total / 1_000_000.0,
+                    timing.breakdownMillis(total)));
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class CompletionListener implements AsyncListener {
+
+        private final RequestTiming timing;
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(timing, request, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecore.roles.monitoring;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Adds the time spent in repository calls to {@link RequestPhase#REPOSITORY}.
+ */
+public class RequestTimingRepositoryInterceptor implements RepositoryInvocationInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            timing.add(RequestPhase.REPOSITORY, System.nanoTime() - start);
+        }
+    }
+}
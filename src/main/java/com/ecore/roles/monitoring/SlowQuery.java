@@ -0,0 +1,31 @@
+package com.ecore.roles.monitoring;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+@Value
+public class SlowQuery {
+
+    Instant timestamp;
+
+    /**
+     * Repository and method, e.g. {@code MembershipRepository.findByRoleId}.
+     */
+    String repositoryMethod;
+
+    /**
+     * First application frame below the repository, usually a service method.
+     */
+    String caller;
+
+    /**
+     * Argument types and collection sizes; values are never recorded.
+     */
+    String parameters;
+
+    long durationMillis;
+
+    List<String> statements;
+}
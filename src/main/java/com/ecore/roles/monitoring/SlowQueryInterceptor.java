@@ -0,0 +1,95 @@
+package com.ecore.roles.monitoring;
+
+import com.ecore.roles.configuration.QueryMonitoringConfigurationProperties;
+import lombok.extern.log4j.Log4j2;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every repository call and, when it exceeds {@code query-monitoring.slow-query-threshold},
+ * records the SQL it issued, the shape of its arguments and the application method that called it.
+ * The stack is only walked for slow calls.
+ */
+@Log4j2
+@Component
+public class SlowQueryInterceptor implements RepositoryInvocationInterceptor {
+
+    private static final String APPLICATION_PACKAGE = "com.ecore.roles.";
+    private static final String MONITORING_PACKAGE = SlowQueryInterceptor.class.getPackageName() + ".";
+
+    private final long thresholdNanos;
+    private final SqlCapture sqlCapture;
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryInterceptor(
+            QueryMonitoringConfigurationProperties queryMonitoringConfigurationProperties,
+            SqlCapture sqlCapture,
+            SlowQueryLog slowQueryLog) {
+        this.thresholdNanos = queryMonitoringConfigurationProperties.getSlowQueryThreshold().toNanos();
+        this.sqlCapture = sqlCapture;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        List<String> outer = sqlCapture.begin();
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            List<String> statements = sqlCapture.end(outer);
+            if (elapsed >= thresholdNanos) {
+                record(invocation, elapsed, statements);
+            }
+        }
+    }
+
+    private void record(MethodInvocation invocation, long elapsedNanos, List<String> statements) {
+        SlowQuery slowQuery = new SlowQuery(
+                Instant.now(),
+                RepositoryInvocations.methodName(invocation),
+                caller(),
+                parameterShape(invocation.getArguments()),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                List.copyOf(statements));
+        slowQueryLog.add(slowQuery);
+        log.warn("Slow query {}{} took {} ms, called from {}: {}",
+                slowQuery.getRepositoryMethod(), slowQuery.getParameters(), slowQuery.getDurationMillis(),
+                slowQuery.getCaller(), statements);
+    }
+
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(MONITORING_PACKAGE))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    static String parameterShape(Object[] arguments) {
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        for (Object argument : arguments) {
+            if (argument == null) {
+                shape.add("null");
+            } else if (argument instanceof Collection) {
+                shape.add(
+                        argument.getClass().getSimpleName() + "[" + ((Collection<?>) argument).size() + "]");
+            } else {
+                shape.add(argument.getClass().getSimpleName());
+            }
+        }
+        return shape.toString();
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecore.roles.monitoring;
+
+import com.ecore.roles.configuration.QueryMonitoringConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlowQueryLog extends BoundedLog<SlowQuery> {
+
+    public SlowQueryLog(QueryMonitoringConfigurationProperties queryMonitoringConfigurationProperties) {
+        super(queryMonitoringConfigurationProperties.getSlowQueryLogSize());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecore.roles.monitoring;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Value
+public class SlowRequest {
+
+    Instant timestamp;
+    String method;
+    String uri;
+    int status;
+    double totalMillis;
+
+    /**
+     * Milliseconds per {@link RequestPhase}, plus {@code other} for the time outside the handler.
+     */
+    Map<String, Double> phases;
+}
@@ -0,0 +1,8 @@
+package com.ecore.roles.monitoring;
+
+public class SlowRequestLog extends BoundedLog<SlowRequest> {
+
+    public SlowRequestLog(int capacity) {
+        super(capacity);
+    }
+}
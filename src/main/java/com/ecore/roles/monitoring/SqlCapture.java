@@ -0,0 +1,56 @@
+package com.ecore.roles.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread while a capture is open. Outside a
+ * capture the inspector returns the statement untouched.
+ */
+@RequiredArgsConstructor
+public class SqlCapture implements StatementInspector {
+
+    private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+    private final int maxStatements;
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = statements.get();
+        if (captured != null && captured.size() < maxStatements) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts capturing on the current thread and returns the capture that was open before, which must
+     * be handed back to {@link #end(List)}.
+     */
+    public List<String> begin() {
+        List<String> outer = statements.get();
+        statements.set(new ArrayList<>(2));
+        return outer;
+    }
+
+    /**
+     * Closes the current capture, restores the outer one and returns the statements captured since
+     * {@link #begin()}. Nested statements are also added to the outer capture.
+     */
+    public List<String> end(List<String> outer) {
+        List<String> captured = statements.get();
+        if (outer == null) {
+            statements.remove();
+        } else {
+            statements.set(outer);
+            for (String sql : captured) {
+                if (outer.size() < maxStatements) {
+                    outer.add(sql);
+                }
+            }
+        }
+        return captured;
+    }
+}
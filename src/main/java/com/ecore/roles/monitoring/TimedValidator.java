@@ -0,0 +1,49 @@
+package com.ecore.roles.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Adds the time spent validating {@code @Valid} arguments to {@link RequestPhase#VALIDATE}.
+ */
+@RequiredArgsConstructor
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return delegate.supports(type);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            delegate.validate(target, errors, validationHints);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            timing.add(RequestPhase.VALIDATE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void validateValue(
+            Class<?> targetType,
+            String fieldName,
+            Object value,
+            Errors errors,
+            Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ecore.roles.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Name("com.ecore.roles.UpstreamCall")
+@Label("Upstream Call")
+@Category({"Roles API", "Upstream"})
+@Description("Call from UsersClient or TeamsClient to the Users or Teams API")
+@StackTrace(false)
+public class UpstreamCallEvent extends Event {
+
+    @Label("Upstream")
+    String upstream;
+
+    @Label("Resource Id")
+    String resourceId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Status")
+    int status;
+
+    @Label("Payload Size")
+    @Description("Content-Length of the response, -1 when it is not known")
+    @DataAmount
+    long payloadSize;
+
+    /**
+     * Performs the call inside an event; {@code resourceId} is {@code null} for list calls. When no
+     * recording has the event enabled the call runs without any bookkeeping.
+     */
+    public static <T> ResponseEntity<T> record(
+            String upstream,
+            Object resourceId,
+            Supplier<ResponseEntity<T>> call) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin(upstream, resourceId);
+        try {
+            ResponseEntity<T> response = call.get();
+            event.succeeded(response);
+            return response;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Like {@link #record}, for calls that complete later; the event ends when the future does.
+     */
+    public static <T> CompletableFuture<ResponseEntity<T>> recordAsync(
+            String upstream,
+            Object resourceId,
+            Supplier<CompletableFuture<ResponseEntity<T>>> call) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin(upstream, resourceId);
+        return call.get().whenComplete((response, failure) -> {
+            if (failure == null) {
+                event.succeeded(response);
+            } else {
+                event.failed(failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+            event.commit();
+        });
+    }
+
+    private void begin(String upstream, Object resourceId) {
+        this.upstream = upstream;
+        this.resourceId = resourceId == null ? null : resourceId.toString();
+        begin();
+    }
+
+    private void succeeded(ResponseEntity<?> response) {
+        outcome = "SUCCESS";
+        status = response.getStatusCodeValue();
+        payloadSize = response.getHeaders().getContentLength();
+    }
+
+    private void failed(Throwable failure) {
+        if (failure instanceof RestClientResponseException) {
+            failed(((RestClientResponseException) failure).getRawStatusCode(),
+                    ((RestClientResponseException) failure).getResponseBodyAsByteArray().length);
+        } else if (failure instanceof WebClientResponseException) {
+            failed(((WebClientResponseException) failure).getRawStatusCode(),
+                    ((WebClientResponseException) failure).getResponseBodyAsByteArray().length);
+        } else {
+            outcome = failure.getClass().getSimpleName();
+            payloadSize = -1;
+        }
+    }
+
+    private void failed(int status, long payloadSize) {
+        this.outcome = status >= 500 ? "SERVER_ERROR" : "CLIENT_ERROR";
+        this.status = status;
+        this.payloadSize = payloadSize;
+    }
+}
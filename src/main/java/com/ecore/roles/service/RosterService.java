@@ -0,0 +1,16 @@
+package com.ecore.roles.service;
+
+import com.ecore.roles.exception.ResourceNotFoundException;
+import com.ecore.roles.model.TeamRoster;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface RosterService {
+
+    /**
+     * Completes with the roster, or fails with {@link ResourceNotFoundException} when the team does not
+     * exist.
+     */
+    CompletableFuture<TeamRoster> getRosterAsync(UUID teamId);
+}
@@ -4,10 +4,15 @@ import com.ecore.roles.client.model.Team;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface TeamsService {
 
     Team getTeam(UUID id);
 
     List<Team> getTeams();
+
+    CompletableFuture<Team> getTeamAsync(UUID id);
+
+    CompletableFuture<List<Team>> getTeamsAsync();
 }
@@ -2,12 +2,26 @@ package com.ecore.roles.service;
 
 import com.ecore.roles.client.model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface UsersService {
 
     User getUser(UUID id);
 
     List<User> getUsers();
+
+    CompletableFuture<User> getUserAsync(UUID id);
+
+    CompletableFuture<List<User>> getUsersAsync();
+
+    /**
+     * Looks up several users at once. Each id is fetched at most once, cached users are not fetched
+     * again and the rest are fetched concurrently. Users that could not be fetched are missing from the
+     * result.
+     */
+    CompletableFuture<Map<UUID, User>> getUsersAsync(Collection<UUID> ids);
 }
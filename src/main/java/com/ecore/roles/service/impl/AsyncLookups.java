@@ -0,0 +1,50 @@
+package com.ecore.roles.service.impl;
+
+import com.ecore.roles.exception.ResourceNotFoundException;
+import org.springframework.cache.Cache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * The asynchronous counterpart of {@code @Cacheable} lookups, which Spring cannot apply to futures:
+ * answers from the cache when it can, and caches what the upstream returns otherwise.
+ */
+final class AsyncLookups {
+
+    private AsyncLookups() {}
+
+    static <T> CompletableFuture<T> getCached(
+            Cache cache,
+            Class<T> type,
+            UUID id,
+            Function<UUID, CompletableFuture<ResponseEntity<T>>> fetch) {
+        T cached = cache.get(id, type);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return fetch.apply(id)
+                .exceptionally(failure -> {
+                    throw translate(failure, type, id);
+                })
+                .thenApply(response -> {
+                    T value = response.getBody();
+                    if (value != null) {
+                        cache.put(id, value);
+                    }
+                    return value;
+                });
+    }
+
+    private static RuntimeException translate(Throwable failure, Class<?> type, UUID id) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof WebClientResponseException.NotFound) {
+            return new ResourceNotFoundException(type, id);
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+    }
+}
@@ -0,0 +1,143 @@
+package com.ecore.roles.service.impl;
+
+import com.ecore.roles.configuration.FanOutConfigurationProperties;
+import com.ecore.roles.configuration.VirtualThreads;
+import com.ecore.roles.configuration.VirtualThreadsConfigurationProperties;
+import com.ecore.roles.deadline.Deadline;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs independent upstream lookups concurrently, at most {@code fan-out.parallelism} at a time,
+ * and gives them no longer than {@code fan-out.timeout}. Lookups that fail, return nothing or miss
+ * the deadline are left out, so callers get partial results instead of an error. The lookups run on
+ * a fixed pool, or on virtual threads when {@code virtual-threads.enabled} is set. Within a request
+ * the lookups carry its {@link Deadline}, the wait ends at the deadline if that comes first, and a
+ * fan-out cut short by its deadline fails rather than answer a caller who has gone.
+ */
+@Log4j2
+@Component
+public class FanOut {
+
+    private final FanOutConfigurationProperties fanOutConfigurationProperties;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+
+    public FanOut(
+            FanOutConfigurationProperties fanOutConfigurationProperties,
+            VirtualThreadsConfigurationProperties virtualThreadsConfigurationProperties) {
+        this.fanOutConfigurationProperties = fanOutConfigurationProperties;
+        this.executor = virtualThreadsConfigurationProperties.isEnabled()
+                ? VirtualThreads.newThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(fanOutConfigurationProperties.getParallelism(),
+                        new FanOutThreadFactory());
+        this.inFlight = new Semaphore(fanOutConfigurationProperties.getParallelism());
+    }
+
+    /**
+     * Looks up every key and completes with the values found, in the order of {@code keys}. No thread
+     * waits for the lookups: the result completes when the last one has finished or at the timeout,
+     * whichever comes first, and lookups still running then are interrupted.
+     */
+    public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<K> keys, Function<K, V> lookup) {
+        Deadline deadline = Deadline.current();
+        List<K> pending = new ArrayList<>(keys);
+        List<CompletableFuture<V>> results = new ArrayList<>(pending.size());
+        List<Future<?>> running = new ArrayList<>(pending.size());
+        for (K key : pending) {
+            Callable<V> task = () -> {
+                inFlight.acquire();
+                try {
+                    return lookup.apply(key);
+                } finally {
+                    inFlight.release();
+                }
+            };
+            Callable<V> call = deadline == null ? task : deadline.wrap(task);
+            CompletableFuture<V> result = new CompletableFuture<>();
+            running.add(executor.submit(() -> complete(result, call)));
+            results.add(result);
+        }
+        Duration timeout = fanOutConfigurationProperties.getTimeout();
+        if (deadline != null && deadline.remaining().compareTo(timeout) < 0) {
+            timeout = deadline.remaining();
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(failure -> null)
+                .completeOnTimeout(null, timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .thenApply(done -> {
+                    running.forEach(task -> task.cancel(true));
+                    Map<K, V> values = new LinkedHashMap<>();
+                    for (int i = 0; i < results.size(); i++) {
+                        V value = valueOf(pending.get(i), results.get(i));
+                        if (value != null) {
+                            values.put(pending.get(i), value);
+                        }
+                    }
+                    if (values.size() < pending.size()) {
+                        if (deadline != null) {
+                            deadline.check("fan-out");
+                        }
+                        log.warn("Fan-out returned {} of {} lookups", values.size(), pending.size());
+                    }
+                    return values;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <V> void complete(CompletableFuture<V> result, Callable<V> call) {
+        try {
+            result.complete(call.call());
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static <K, V> V valueOf(K key, CompletableFuture<V> result) {
+        if (!result.isDone()) {
+            log.debug("Lookup of {} missed the fan-out deadline", key);
+            return null;
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            log.debug("Lookup of {} failed", key, e.getCause());
+            return null;
+        }
+    }
+
+    private static class FanOutThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "fan-out-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
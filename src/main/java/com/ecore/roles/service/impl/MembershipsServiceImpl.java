@@ -1,5 +1,7 @@
 package com.ecore.roles.service.impl;
 
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.cache.VersionedList;
 import com.ecore.roles.exception.InvalidArgumentException;
 import com.ecore.roles.exception.ResourceExistsException;
 import com.ecore.roles.exception.ResourceNotFoundException;
@@ -11,11 +13,15 @@ import com.ecore.roles.service.MembershipsService;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
+import static com.ecore.roles.configuration.CacheConfiguration.MEMBERSHIPS_CACHE;
 import static java.util.Optional.ofNullable;
 
 @Log4j2
@@ -24,16 +30,23 @@ public class MembershipsServiceImpl implements MembershipsService {
 
     private final MembershipRepository membershipRepository;
     private final RoleRepository roleRepository;
+    private final ResourceVersions resourceVersions;
+    private final Cache membershipsCache;
 
     @Autowired
     public MembershipsServiceImpl(
             MembershipRepository membershipRepository,
-            RoleRepository roleRepository) {
+            RoleRepository roleRepository,
+            ResourceVersions resourceVersions,
+            CacheManager cacheManager) {
         this.membershipRepository = membershipRepository;
         this.roleRepository = roleRepository;
+        this.resourceVersions = resourceVersions;
+        this.membershipsCache = cacheManager.getCache(MEMBERSHIPS_CACHE);
     }
 
     @Override
+    @Transactional
     public Membership assignRoleToMembership(@NonNull Membership m) {
 
         UUID roleId = ofNullable(m.getRole()).map(Role::getId)
@@ -45,11 +58,27 @@ public class MembershipsServiceImpl implements MembershipsService {
         }
 
         roleRepository.findById(roleId).orElseThrow(() -> new ResourceNotFoundException(Role.class, roleId));
-        return membershipRepository.save(m);
+        Membership membership = membershipRepository.save(m);
+        resourceVersions.membershipsChanged();
+        return membership;
     }
 
+    /**
+     * Cached per role with the memberships version read before the query, and served only while that
+     * version is current: a search that raced a write is tagged with the version before it, so it
+     * cannot outlive the write, wherever the write was made.
+     */
     @Override
     public List<Membership> getMemberships(@NonNull UUID rid) {
-        return membershipRepository.findByRoleId(rid);
+        long version = resourceVersions.membershipsVersion();
+        VersionedList<?> cached = membershipsCache.get(rid, VersionedList.class);
+        if (cached != null && cached.getVersion() == version) {
+            @SuppressWarnings("unchecked")
+            List<Membership> memberships = (List<Membership>) cached.getValues();
+            return memberships;
+        }
+        List<Membership> memberships = membershipRepository.findByRoleId(rid);
+        membershipsCache.put(rid, new VersionedList<>(version, memberships));
+        return memberships;
     }
 }
@@ -1,5 +1,6 @@
 package com.ecore.roles.service.impl;
 
+import com.ecore.roles.cache.ResourceVersions;
 import com.ecore.roles.exception.ResourceExistsException;
 import com.ecore.roles.exception.ResourceNotFoundException;
 import com.ecore.roles.model.Role;
@@ -10,11 +11,17 @@ import com.ecore.roles.service.RolesService;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
+import static com.ecore.roles.configuration.CacheConfiguration.RESPONSES_CACHE;
+import static com.ecore.roles.configuration.CacheConfiguration.ROLES_CACHE;
+
 @Log4j2
 @Service
 public class RolesServiceImpl implements RolesService {
@@ -24,32 +31,41 @@ public class RolesServiceImpl implements RolesService {
     private final RoleRepository roleRepository;
     private final MembershipRepository membershipRepository;
     private final MembershipsService membershipsService;
+    private final ResourceVersions resourceVersions;
 
     @Autowired
     public RolesServiceImpl(
             RoleRepository roleRepository,
             MembershipRepository membershipRepository,
-            MembershipsService membershipsService) {
+            MembershipsService membershipsService,
+            ResourceVersions resourceVersions) {
         this.roleRepository = roleRepository;
         this.membershipRepository = membershipRepository;
         this.membershipsService = membershipsService;
+        this.resourceVersions = resourceVersions;
     }
 
     @Override
+    @CacheEvict(cacheNames = {ROLES_CACHE, RESPONSES_CACHE}, allEntries = true)
+    @Transactional
     public Role CreateRole(@NonNull Role r) {
         if (roleRepository.findByName(r.getName()).isPresent()) {
             throw new ResourceExistsException(Role.class);
         }
-        return roleRepository.save(r);
+        Role role = roleRepository.save(r);
+        resourceVersions.rolesChanged();
+        return role;
     }
 
     @Override
+    @Cacheable(cacheNames = ROLES_CACHE, key = "#rid")
     public Role GetRole(@NonNull UUID rid) {
         return roleRepository.findById(rid)
                 .orElseThrow(() -> new ResourceNotFoundException(Role.class, rid));
     }
 
     @Override
+    @Cacheable(cacheNames = ROLES_CACHE, key = "'all'")
     public List<Role> GetRoles() {
         return roleRepository.findAll();
     }
@@ -0,0 +1,88 @@
+package com.ecore.roles.service.impl;
+
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.client.model.User;
+import com.ecore.roles.deadline.Deadline;
+import com.ecore.roles.exception.ResourceNotFoundException;
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.model.RosterMember;
+import com.ecore.roles.model.TeamRoster;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.RosterService;
+import com.ecore.roles.service.TeamsService;
+import com.ecore.roles.service.UsersService;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Optional.ofNullable;
+
+@Service
+public class RosterServiceImpl implements RosterService {
+
+    private final TeamsService teamsService;
+    private final UsersService usersService;
+    private final MembershipRepository membershipRepository;
+
+    @Autowired
+    public RosterServiceImpl(
+            TeamsService teamsService,
+            UsersService usersService,
+            MembershipRepository membershipRepository) {
+        this.teamsService = teamsService;
+        this.usersService = usersService;
+        this.membershipRepository = membershipRepository;
+    }
+
+    /**
+     * The roles are read on the calling thread, before the request goes asynchronous, so the callbacks
+     * that assemble the roster never block on the database.
+     */
+    @Override
+    public CompletableFuture<TeamRoster> getRosterAsync(@NonNull UUID teamId) {
+        Map<UUID, Role> roles = new HashMap<>();
+        for (Membership membership : membershipRepository.findByTeamId(teamId)) {
+            roles.put(membership.getUserId(), membership.getRole());
+        }
+        Deadline deadline = Deadline.current();
+
+        return teamsService.getTeamAsync(teamId).thenCompose(team -> {
+            if (team == null) {
+                throw new ResourceNotFoundException(Team.class, teamId);
+            }
+            Set<UUID> memberIds = new LinkedHashSet<>(ofNullable(team.getTeamMemberIds()).orElse(List.of()));
+            return Deadline.supplyWith(deadline, () -> usersService.getUsersAsync(memberIds))
+                    .thenApply(users -> roster(team, memberIds, users, roles));
+        });
+    }
+
+    private static TeamRoster roster(
+            Team team,
+            Set<UUID> memberIds,
+            Map<UUID, User> users,
+            Map<UUID, Role> roles) {
+        List<RosterMember> members = new ArrayList<>(memberIds.size());
+        for (UUID memberId : memberIds) {
+            members.add(RosterMember.builder()
+                    .userId(memberId)
+                    .user(users.get(memberId))
+                    .role(roles.get(memberId))
+                    .build());
+        }
+        return TeamRoster.builder()
+                .team(team)
+                .members(members)
+                .complete(users.size() == memberIds.size())
+                .build();
+    }
+}
@@ -4,21 +4,31 @@ import com.ecore.roles.client.TeamsClient;
 import com.ecore.roles.client.model.Team;
 import com.ecore.roles.service.TeamsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ecore.roles.configuration.CacheConfiguration.TEAMS_CACHE;
 
 @Service
 public class TeamsServiceImpl implements TeamsService {
 
     private final TeamsClient teamsClient;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public TeamsServiceImpl(TeamsClient teamsClient) {
+    public TeamsServiceImpl(TeamsClient teamsClient, CacheManager cacheManager) {
         this.teamsClient = teamsClient;
+        this.cacheManager = cacheManager;
     }
 
+    @Cacheable(cacheNames = TEAMS_CACHE, key = "#id", unless = "#result == null")
     public Team getTeam(UUID id) {
         return teamsClient.getTeam(id).getBody();
     }
@@ -26,4 +36,14 @@ public class TeamsServiceImpl implements TeamsService {
     public List<Team> getTeams() {
         return teamsClient.getTeams().getBody();
     }
+
+    public CompletableFuture<Team> getTeamAsync(UUID id) {
+        return AsyncLookups.getCached(Objects.requireNonNull(cacheManager.getCache(TEAMS_CACHE)), Team.class,
+                id,
+                teamsClient::getTeamAsync);
+    }
+
+    public CompletableFuture<List<Team>> getTeamsAsync() {
+        return teamsClient.getTeamsAsync().thenApply(ResponseEntity::getBody);
+    }
 }
@@ -4,21 +4,39 @@ import com.ecore.roles.client.UsersClient;
 import com.ecore.roles.client.model.User;
 import com.ecore.roles.service.UsersService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ecore.roles.configuration.CacheConfiguration.USERS_CACHE;
 
 @Service
 public class UsersServiceImpl implements UsersService {
 
     private final UsersClient usersClient;
+    private final CacheManager cacheManager;
+    private final FanOut fanOut;
 
     @Autowired
-    public UsersServiceImpl(UsersClient usersClient) {
+    public UsersServiceImpl(UsersClient usersClient, CacheManager cacheManager, FanOut fanOut) {
         this.usersClient = usersClient;
+        this.cacheManager = cacheManager;
+        this.fanOut = fanOut;
     }
 
+    @Cacheable(cacheNames = USERS_CACHE, key = "#id", unless = "#result == null")
     public User getUser(UUID id) {
         return usersClient.getUser(id).getBody();
     }
@@ -26,4 +44,37 @@ public class UsersServiceImpl implements UsersService {
     public List<User> getUsers() {
         return usersClient.getUsers().getBody();
     }
+
+    public CompletableFuture<User> getUserAsync(UUID id) {
+        return AsyncLookups.getCached(usersCache(), User.class, id, usersClient::getUserAsync);
+    }
+
+    public CompletableFuture<List<User>> getUsersAsync() {
+        return usersClient.getUsersAsync().thenApply(ResponseEntity::getBody);
+    }
+
+    public CompletableFuture<Map<UUID, User>> getUsersAsync(Collection<UUID> ids) {
+        Cache cache = usersCache();
+        Map<UUID, User> users = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            User user = cache.get(id, User.class);
+            users.put(id, user);
+            if (user == null) {
+                missing.add(id);
+            }
+        }
+
+        return fanOut.getAll(missing, id -> usersClient.getUser(id).getBody())
+                .thenApply(fetched -> {
+                    fetched.forEach(cache::put);
+                    users.putAll(fetched);
+                    users.values().removeIf(Objects::isNull);
+                    return users;
+                });
+    }
+
+    private Cache usersCache() {
+        return Objects.requireNonNull(cacheManager.getCache(USERS_CACHE));
+    }
 }
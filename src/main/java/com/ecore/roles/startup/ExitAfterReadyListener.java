@@ -0,0 +1,24 @@
+package com.ecore.roles.startup;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops the JVM as soon as the application is ready. Used by the training run that records the
+ * classes loaded during startup for the class-data-sharing archive.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "startup.exit-after-ready", havingValue = "true")
+public class ExitAfterReadyListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("Application is ready, exiting as requested by startup.exit-after-ready");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecore.roles.startup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Marks the beans declared in the configured packages as lazy so they are only created when first
+ * used. Unlike {@code spring.main.lazy-initialization} this keeps the request path eager and only
+ * defers beans that are not needed to serve traffic, such as the OpenAPI documentation.
+ */
+@RequiredArgsConstructor
+public class LazyPackagesBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition.getRole() == BeanDefinition.ROLE_APPLICATION
+                    && isInLazyPackage(declaringClassName(beanDefinition))) {
+                beanDefinition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean isInLazyPackage(String className) {
+        return className != null && packages.stream().anyMatch(className::startsWith);
+    }
+
+    private static String declaringClassName(BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof AnnotatedBeanDefinition) {
+            MethodMetadata factoryMethod =
+                    ((AnnotatedBeanDefinition) beanDefinition).getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return beanDefinition.getBeanClassName();
+    }
+}
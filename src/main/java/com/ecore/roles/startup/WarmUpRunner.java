@@ -0,0 +1,160 @@
+package com.ecore.roles.startup;
+
+import com.ecore.roles.configuration.WarmUpConfigurationProperties;
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.RolesService;
+import com.ecore.roles.service.TeamsService;
+import com.ecore.roles.service.UsersService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Primes caches, the persistence layer and upstream connections before the application reports
+ * itself ready. Spring Boot only publishes {@link ReadinessState#ACCEPTING_TRAFFIC} once all
+ * runners have returned, so the readiness probe keeps refusing traffic until the warm-up has
+ * finished or its timeout has elapsed.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final WarmUpConfigurationProperties warmUpConfigurationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RolesService rolesService;
+    private final UsersService usersService;
+    private final TeamsService teamsService;
+    private final MembershipRepository membershipRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmUpConfigurationProperties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.nanoTime();
+        long deadline = start + warmUpConfigurationProperties.getTimeout().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                warmUpConfigurationProperties.getParallelism(), new WarmUpThreadFactory());
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            results.add(executor.submit(this::warmUpRoles));
+            Future<List<Membership>> prefetched = executor.submit(() -> membershipRepository
+                    .findAll(PageRequest.of(0, warmUpConfigurationProperties.getMaxPrefetchedIds()))
+                    .getContent());
+            results.addAll(executor.invokeAll(
+                    upstreamTasks(awaitMemberships(prefetched, deadline)),
+                    remaining(deadline),
+                    TimeUnit.NANOSECONDS));
+            long failed = results.stream().filter(result -> hasFailed(result, deadline)).count();
+            log.info("Warm-up finished in {} ms ({} of {} tasks did not complete)",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed, results.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm-up interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void warmUpRoles() {
+        for (Role role : rolesService.GetRoles()) {
+            rolesService.GetRole(role.getId());
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the membership prefetch within the warm-up budget. The upstream lookups are skipped
+     * when it fails or runs out of time, so a slow or failing database cannot hold back readiness.
+     */
+    private List<Membership> awaitMemberships(Future<List<Membership>> prefetched, long deadline)
+            throws InterruptedException {
+        try {
+            return prefetched.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            log.warn("Warm-up could not read memberships, skipping user and team lookups", e.getCause());
+        } catch (TimeoutException e) {
+            prefetched.cancel(true);
+            log.warn("Warm-up timed out reading memberships, skipping user and team lookups");
+        }
+        return List.of();
+    }
+
+    private List<Callable<Void>> upstreamTasks(List<Membership> memberships) {
+        Set<UUID> userIds = new LinkedHashSet<>();
+        Set<UUID> teamIds = new LinkedHashSet<>();
+        for (Membership membership : memberships) {
+            userIds.add(membership.getUserId());
+            teamIds.add(membership.getTeamId());
+        }
+        List<Callable<Void>> tasks = new ArrayList<>();
+        userIds.forEach(id -> tasks.add(() -> {
+            usersService.getUser(id);
+            return null;
+        }));
+        teamIds.forEach(id -> tasks.add(() -> {
+            teamsService.getTeam(id);
+            return null;
+        }));
+        return tasks;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private static boolean hasFailed(Future<Void> result, long deadline) {
+        try {
+            result.get(remaining(deadline), TimeUnit.NANOSECONDS);
+            return false;
+        } catch (CancellationException | ExecutionException e) {
+            log.debug("Warm-up task failed", e);
+            return true;
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    private static class WarmUpThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "warm-up-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecore.roles.stub;
+
+import com.ecore.roles.configuration.UpstreamStubConfigurationProperties.Latency;
+
+import java.util.Random;
+
+public enum LatencyDistribution {
+
+    NONE {
+        @Override
+        public long sampleNanos(Latency latency, Random random) {
+            return 0;
+        }
+    },
+    FIXED {
+        @Override
+        public long sampleNanos(Latency latency, Random random) {
+            return latency.getMedian().toNanos();
+        }
+    },
+    UNIFORM {
+        @Override
+        public long sampleNanos(Latency latency, Random random) {
+            long min = latency.getMin().toNanos();
+            long max = latency.getMax().toNanos();
+            return max <= min ? min : min + (long) (random.nextDouble() * (max - min));
+        }
+    },
+    LOG_NORMAL {
+        /**
+         * z-score of the 99th percentile of the standard normal distribution.
+         */
+        private static final double Z_99 = 2.3263;
+
+        @Override
+        public long sampleNanos(Latency latency, Random random) {
+            double median = latency.getMedian().toNanos();
+            double p99 = Math.max(latency.getP99().toNanos(), median);
+            if (median <= 0) {
+                return 0;
+            }
+            double sigma = Math.log(p99 / median) / Z_99;
+            return (long) (median * Math.exp(sigma * random.nextGaussian()));
+        }
+    };
+
+    public abstract long sampleNanos(Latency latency, Random random);
+}
@@ -0,0 +1,95 @@
+package com.ecore.roles.stub;
+
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.client.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deterministic users and teams derived from their index, so directories of any size can be served
+ * without keeping them in memory. The index is stored in the low bits of the id.
+ */
+public class SyntheticDirectory {
+
+    private static final long USERS_TAG = 0x5553455253000000L;
+    private static final long TEAMS_TAG = 0x5445414d53000000L;
+
+    private final int userCount;
+    private final int teamCount;
+    private final int membersPerTeam;
+    private final String userPadding;
+    private final String teamPadding;
+
+    public SyntheticDirectory(
+            int userCount,
+            int teamCount,
+            int membersPerTeam,
+            int userPadding,
+            int teamPadding) {
+        this.userCount = userCount;
+        this.teamCount = teamCount;
+        this.membersPerTeam = Math.min(membersPerTeam, userCount);
+        this.userPadding = "x".repeat(userPadding);
+        this.teamPadding = "x".repeat(teamPadding);
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public static UUID userId(int index) {
+        return new UUID(USERS_TAG, index);
+    }
+
+    public static UUID teamId(int index) {
+        return new UUID(TEAMS_TAG, index);
+    }
+
+    public Optional<User> findUser(UUID id) {
+        return indexOf(id, USERS_TAG, userCount).map(this::user);
+    }
+
+    public Optional<Team> findTeam(UUID id) {
+        return indexOf(id, TEAMS_TAG, teamCount).map(this::team);
+    }
+
+    public User user(int index) {
+        return User.builder()
+                .id(userId(index))
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .displayName("user" + index)
+                .avatarUrl("https://avatars.example.com/" + index + ".png" + userPadding)
+                .location("Location " + index % 100)
+                .build();
+    }
+
+    public Team team(int index) {
+        List<UUID> members = new ArrayList<>(membersPerTeam);
+        for (int i = 0; i < membersPerTeam; i++) {
+            members.add(userId((int) (((long) index * membersPerTeam + i) % userCount)));
+        }
+        return Team.builder()
+                .id(teamId(index))
+                .name("Team " + index + teamPadding)
+                .teamLeadId(members.isEmpty() ? null : members.get(0))
+                .teamMemberIds(members)
+                .build();
+    }
+
+    private static Optional<Integer> indexOf(UUID id, long tag, int count) {
+        if (id.getMostSignificantBits() != tag
+                || id.getLeastSignificantBits() < 0
+                || id.getLeastSignificantBits() >= count) {
+            return Optional.empty();
+        }
+        return Optional.of((int) id.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecore.roles.stub;
+
+import com.ecore.roles.configuration.UpstreamStubConfigurationProperties;
+import com.ecore.roles.configuration.UpstreamStubConfigurationProperties.Upstream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Local stand-in for the Users and Teams APIs, enabled with the {@code upstream-stub} profile. It
+ * serves a {@link SyntheticDirectory} on its own port and thread pool, with the latency, error rate
+ * and payload size configured per upstream under {@code upstream-stub.*}.
+ */
+@Log4j2
+@Profile("upstream-stub")
+@Component
+public class UpstreamStubServer implements SmartLifecycle {
+
+    private final UpstreamStubConfigurationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SyntheticDirectory directory;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public UpstreamStubServer(UpstreamStubConfigurationProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.directory = new SyntheticDirectory(
+                properties.getUsers().getSize(),
+                properties.getTeams().getSize(),
+                properties.getMembersPerTeam(),
+                properties.getUsers().getPayloadPadding(),
+                properties.getTeams().getPayloadPadding());
+    }
+
+    @Override
+    public void start() {
+        try {
+            executor = Executors.newFixedThreadPool(properties.getThreads());
+            server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 1024);
+            server.createContext("/users", exchange -> handle(exchange, properties.getUsers(),
+                    directory::findUser, directory.getUserCount(), directory::user));
+            server.createContext("/teams", exchange -> handle(exchange, properties.getTeams(),
+                    directory::findTeam, directory.getTeamCount(), directory::team));
+            server.setExecutor(executor);
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the upstream stub", e);
+        }
+        log.info("Upstream stub serving {} users and {} teams on port {}",
+                directory.getUserCount(), directory.getTeamCount(), getPort());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Starts before the web server so the application never calls a stub that is not listening.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(
+            HttpExchange exchange,
+            Upstream upstream,
+            Function<UUID, Optional<?>> finder,
+            int size,
+            IntFunction<?> resourceAt) throws IOException {
+        try (exchange) {
+            simulateLatency(upstream);
+            if (upstream.getErrorRate() > 0
+                    && ThreadLocalRandom.current().nextDouble() < upstream.getErrorRate()) {
+                exchange.sendResponseHeaders(upstream.getErrorStatus(), -1);
+                return;
+            }
+            String[] segments = exchange.getRequestURI().getPath().split("/");
+            if (segments.length <= 2) {
+                writeAll(exchange, size, resourceAt);
+                return;
+            }
+            Optional<?> resource = parse(segments[2]).flatMap(finder);
+            if (resource.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = objectMapper.writeValueAsBytes(resource.get());
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private void writeAll(HttpExchange exchange, int size, IntFunction<?> resourceAt) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream out = exchange.getResponseBody();
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (int i = 0; i < size; i++) {
+                writer.writeValue(generator, resourceAt.apply(i));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static void simulateLatency(Upstream upstream) {
+        long delay = upstream.getLatency().getDistribution()
+                .sampleNanos(upstream.getLatency(), ThreadLocalRandom.current());
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Optional<UUID> parse(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.ecore.roles.web;
 
+import com.ecore.roles.model.Membership;
 import com.ecore.roles.web.dto.MembershipDto;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,9 +11,11 @@ import java.util.UUID;
 public interface MembershipsApi {
 
     ResponseEntity<MembershipDto> assignRoleToMembership(
-            MembershipDto membership);
+            MembershipDto membership,
+            String idempotencyKey);
 
-    ResponseEntity<List<MembershipDto>> getMemberships(
-            UUID roleId);
+    ResponseEntity<List<Membership>> getMemberships(
+            UUID roleId,
+            NativeWebRequest request);
 
 }
@@ -2,8 +2,8 @@ package com.ecore.roles.web;
 
 import com.ecore.roles.web.dto.RoleDto;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface RolesApi {
@@ -11,9 +11,17 @@ public interface RolesApi {
     ResponseEntity<RoleDto> createRole(
             RoleDto role);
 
-    ResponseEntity<List<RoleDto>> getRoles();
+    /**
+     * Responds with the array of {@link RoleDto}, already encoded as JSON or CBOR.
+     */
+    ResponseEntity<byte[]> getRoles(
+            NativeWebRequest request);
 
-    ResponseEntity<RoleDto> getRole(
-            UUID roleId);
+    /**
+     * Responds with the {@link RoleDto}, already encoded as JSON or CBOR.
+     */
+    ResponseEntity<byte[]> getRole(
+            UUID roleId,
+            NativeWebRequest request);
 
 }
@@ -1,15 +1,19 @@
 package com.ecore.roles.web;
 
-import com.ecore.roles.web.dto.TeamDto;
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.model.TeamRoster;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface TeamsApi {
 
-    ResponseEntity<List<TeamDto>> getTeams();
+    CompletableFuture<ResponseEntity<List<Team>>> getTeams();
 
-    ResponseEntity<TeamDto> getTeam(UUID teamId);
+    CompletableFuture<ResponseEntity<Team>> getTeam(UUID teamId);
+
+    CompletableFuture<ResponseEntity<TeamRoster>> getTeamRoster(UUID teamId);
 
 }
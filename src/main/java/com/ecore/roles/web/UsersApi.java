@@ -1,14 +1,19 @@
 package com.ecore.roles.web;
 
-import com.ecore.roles.web.dto.UserDto;
+import com.ecore.roles.client.model.User;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface UsersApi {
 
-    ResponseEntity<List<UserDto>> getUsers();
+    CompletableFuture<ResponseEntity<List<User>>> getUsers();
 
-    ResponseEntity<UserDto> getUser(UUID userId);
+    CompletableFuture<ResponseEntity<Map<UUID, User>>> getUsersById(Set<UUID> ids);
+
+    CompletableFuture<ResponseEntity<User>> getUser(UUID userId);
 }
@@ -0,0 +1,43 @@
+package com.ecore.roles.web.json;
+
+import com.ecore.roles.model.Membership;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Membership} in the shape of {@code MembershipDto}, with the role flattened to its
+ * id. The fields follow the order Jackson writes the DTO in, which is not its declaration order:
+ * {@code teamMemberId} is the renamed {@code userId} field and comes after {@code teamId}.
+ */
+@JsonComponent
+public class MembershipSerializer extends StdSerializer<Membership> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString ROLE_ID = new SerializedString("roleId");
+    private static final SerializedString TEAM_ID = new SerializedString("teamId");
+    private static final SerializedString TEAM_MEMBER_ID = new SerializedString("teamMemberId");
+
+    public MembershipSerializer() {
+        super(Membership.class);
+    }
+
+    @Override
+    public void serialize(Membership membership, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(membership);
+        generator.writeFieldName(ID);
+        Uuids.write(generator, membership.getId());
+        generator.writeFieldName(ROLE_ID);
+        Uuids.write(generator, membership.getRole() == null ? null : membership.getRole().getId());
+        generator.writeFieldName(TEAM_ID);
+        Uuids.write(generator, membership.getTeamId());
+        generator.writeFieldName(TEAM_MEMBER_ID);
+        Uuids.write(generator, membership.getUserId());
+        generator.writeEndObject();
+    }
+}
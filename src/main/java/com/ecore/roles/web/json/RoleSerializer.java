@@ -0,0 +1,35 @@
+package com.ecore.roles.web.json;
+
+import com.ecore.roles.model.Role;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Role} in the shape of {@code RoleDto}.
+ */
+@JsonComponent
+public class RoleSerializer extends StdSerializer<Role> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+
+    public RoleSerializer() {
+        super(Role.class);
+    }
+
+    @Override
+    public void serialize(Role role, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(role);
+        generator.writeFieldName(ID);
+        Uuids.write(generator, role.getId());
+        generator.writeFieldName(NAME);
+        generator.writeString(role.getName());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecore.roles.web.json;
+
+import com.ecore.roles.client.model.Team;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes a {@link Team} in the shape of {@code TeamDto}: the lead and members are left out when
+ * empty.
+ */
+@JsonComponent
+public class TeamSerializer extends StdSerializer<Team> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString TEAM_LEAD_ID = new SerializedString("teamLeadId");
+    private static final SerializedString TEAM_MEMBER_IDS = new SerializedString("teamMemberIds");
+
+    public TeamSerializer() {
+        super(Team.class);
+    }
+
+    @Override
+    public void serialize(Team team, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(team);
+        generator.writeFieldName(ID);
+        Uuids.write(generator, team.getId());
+        generator.writeFieldName(NAME);
+        generator.writeString(team.getName());
+        if (team.getTeamLeadId() != null) {
+            generator.writeFieldName(TEAM_LEAD_ID);
+            Uuids.write(generator, team.getTeamLeadId());
+        }
+        List<UUID> members = team.getTeamMemberIds();
+        if (members != null) {
+            generator.writeFieldName(TEAM_MEMBER_IDS);
+            generator.writeStartArray(members, members.size());
+            for (int i = 0; i < members.size(); i++) {
+                Uuids.write(generator, members.get(i));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
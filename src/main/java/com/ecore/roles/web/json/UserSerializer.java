@@ -0,0 +1,51 @@
+package com.ecore.roles.web.json;
+
+import com.ecore.roles.client.model.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link User} in the shape of {@code UserDto}: optional fields are left out when empty.
+ */
+@JsonComponent
+public class UserSerializer extends StdSerializer<User> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString DISPLAY_NAME = new SerializedString("displayName");
+    private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+    private static final SerializedString LOCATION = new SerializedString("location");
+
+    public UserSerializer() {
+        super(User.class);
+    }
+
+    @Override
+    public void serialize(User user, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(user);
+        generator.writeFieldName(ID);
+        Uuids.write(generator, user.getId());
+        writeIfPresent(generator, FIRST_NAME, user.getFirstName());
+        writeIfPresent(generator, LAST_NAME, user.getLastName());
+        generator.writeFieldName(DISPLAY_NAME);
+        generator.writeString(user.getDisplayName());
+        writeIfPresent(generator, AVATAR_URL, user.getAvatarUrl());
+        writeIfPresent(generator, LOCATION, user.getLocation());
+        generator.writeEndObject();
+    }
+
+    private static void writeIfPresent(JsonGenerator generator, SerializedString name, String value)
+            throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecore.roles.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes UUIDs without allocating: the canonical 36-character form for text formats, 16 raw bytes
+ * for formats that write binary natively (CBOR), both through a per-thread scratch buffer.
+ */
+final class Uuids {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private Uuids() {}
+
+    static void write(JsonGenerator generator, UUID uuid) throws IOException {
+        if (uuid == null) {
+            generator.writeNull();
+            return;
+        }
+        Scratch scratch = SCRATCH.get();
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+        if (generator.canWriteBinaryNatively()) {
+            byte[] bytes = scratch.bytes;
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (most >>> (56 - 8 * i));
+                bytes[8 + i] = (byte) (least >>> (56 - 8 * i));
+            }
+            generator.writeBinary(bytes, 0, 16);
+            return;
+        }
+        char[] chars = scratch.chars;
+        hex(chars, 0, most >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, most >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, most, 4);
+        chars[18] = '-';
+        hex(chars, 19, least >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, least, 12);
+        generator.writeString(chars, 0, 36);
+    }
+
+    private static void hex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static final class Scratch {
+
+        final char[] chars = new char[36];
+        final byte[] bytes = new byte[16];
+    }
+}
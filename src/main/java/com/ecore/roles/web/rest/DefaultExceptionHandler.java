@@ -1,35 +1,82 @@
 package com.ecore.roles.web.rest;
 
+import com.ecore.roles.exception.BatchTooLargeException;
+import com.ecore.roles.exception.ConcurrencyLimitExceededException;
+import com.ecore.roles.exception.DeadlineExceededException;
 import com.ecore.roles.exception.ErrorResponse;
+import com.ecore.roles.exception.IdempotencyKeyInProgressException;
+import com.ecore.roles.exception.IdempotencyKeyReusedException;
 import com.ecore.roles.exception.ResourceExistsException;
 import com.ecore.roles.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+@RequiredArgsConstructor
 @ControllerAdvice
 public class DefaultExceptionHandler {
 
+    static final String DOMAIN_EXCEPTIONS_METRIC = "roles.domain.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handle(ResourceNotFoundException exception) {
-        return createResponse(404, exception.getMessage());
+        return createResponse(404, exception);
     }
 
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handle(ResourceExistsException exception) {
-        return createResponse(400, exception.getMessage());
+        return createResponse(400, exception);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handle(BatchTooLargeException exception) {
+        return createResponse(400, exception);
     }
 
     @ExceptionHandler
     public ResponseEntity<ErrorResponse> handle(IllegalStateException exception) {
-        return createResponse(500, exception.getMessage());
+        return createResponse(500, exception);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handle(ConcurrencyLimitExceededException exception) {
+        ResponseEntity<ErrorResponse> response = createResponse(503, exception);
+        return ResponseEntity
+                .status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handle(DeadlineExceededException exception) {
+        return createResponse(504, exception);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handle(IdempotencyKeyReusedException exception) {
+        return createResponse(422, exception);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handle(IdempotencyKeyInProgressException exception) {
+        return createResponse(409, exception);
     }
 
-    private ResponseEntity<ErrorResponse> createResponse(int status, String exception) {
+    private ResponseEntity<ErrorResponse> createResponse(int status, RuntimeException exception) {
+        meterRegistry.counter(DOMAIN_EXCEPTIONS_METRIC,
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status))
+                .increment();
         return ResponseEntity
                 .status(status)
                 .body(ErrorResponse.builder()
                         .status(status)
-                        .error(exception).build());
+                        .error(exception.getMessage()).build());
     }
 }
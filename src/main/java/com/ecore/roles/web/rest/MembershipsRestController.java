@@ -1,58 +1,95 @@
 package com.ecore.roles.web.rest;
 
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import com.ecore.roles.idempotency.IdempotentResponses;
+import com.ecore.roles.limit.ConcurrencyLimited;
+import com.ecore.roles.limit.LimitedResource;
 import com.ecore.roles.model.Membership;
 import com.ecore.roles.service.MembershipsService;
 import com.ecore.roles.web.MembershipsApi;
 import com.ecore.roles.web.dto.MembershipDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static com.ecore.roles.configuration.HttpCacheConfigurationProperties.cacheControl;
 import static com.ecore.roles.web.dto.MembershipDto.fromModel;
+import static com.ecore.roles.web.rest.ResponseFormats.eTag;
 
 @RequiredArgsConstructor
 @RestController
+@ConditionalOnWebApplication
+@ConcurrencyLimited(LimitedResource.DATABASE)
 @RequestMapping(value = "/v1/roles/memberships")
 public class MembershipsRestController implements MembershipsApi {
 
     private final MembershipsService membershipsService;
+    private final HttpCacheConfigurationProperties httpCacheConfigurationProperties;
+    private final ResourceVersions resourceVersions;
+    private final ResponseFormats responseFormats;
+    private final IdempotentResponses idempotentResponses;
 
     @Override
     @PostMapping(
-            consumes = {"application/json"},
-            produces = {"application/json"})
+            consumes = {"application/json", "application/cbor"},
+            produces = {"application/json", "application/cbor"})
     public ResponseEntity<MembershipDto> assignRoleToMembership(
-            @NotNull @Valid @RequestBody MembershipDto membershipDto) {
-        Membership membership = membershipsService.assignRoleToMembership(membershipDto.toModel());
-        return ResponseEntity
-                .status(200)
-                .body(fromModel(membership));
+            @NotNull @Valid @RequestBody MembershipDto membershipDto,
+            @RequestHeader(name = IdempotentResponses.KEY_HEADER, required = false) String idempotencyKey) {
+        return idempotentResponses.execute(idempotencyKey, fingerprint(membershipDto), MembershipDto.class,
+                () -> {
+                    Membership membership =
+                            membershipsService.assignRoleToMembership(membershipDto.toModel());
+                    return ResponseEntity
+                            .status(200)
+                            .body(fromModel(membership));
+                });
     }
 
     @Override
-    @PostMapping(
+    @GetMapping(
             path = "/search",
-            produces = {"application/json"})
-    public ResponseEntity<List<MembershipDto>> getMemberships(
-            @RequestParam UUID roleId) {
-
-        List<Membership> memberships = membershipsService.getMemberships(roleId);
-
-        List<MembershipDto> newMembershipDto = new ArrayList<>();
-
-        for (Membership membership : memberships) {
-            MembershipDto membershipDto = fromModel(membership);
-            newMembershipDto.add(membershipDto);
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<List<Membership>> getMemberships(
+            @RequestParam UUID roleId,
+            NativeWebRequest request) {
+        String eTag = eTag(resourceVersions.membershipsETag(), responseFormats.negotiate(request));
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
 
         return ResponseEntity
                 .status(200)
-                .body(newMembershipDto);
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getMemberships()))
+                .eTag(eTag)
+                .body(membershipsService.getMemberships(roleId));
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/roles/memberships/search}, which can be cached.
+     */
+    @Deprecated
+    @PostMapping(
+            path = "/search",
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<List<Membership>> getMembershipsByPost(
+            @RequestParam UUID roleId,
+            NativeWebRequest request) {
+        return getMemberships(roleId, request);
+    }
+
+    private static String fingerprint(MembershipDto membershipDto) {
+        return membershipDto.getRoleId() + "/" + membershipDto.getTeamId() + "/" + membershipDto.getUserId();
     }
 
 }
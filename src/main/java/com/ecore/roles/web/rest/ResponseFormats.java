@@ -0,0 +1,47 @@
+package com.ecore.roles.web.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+/**
+ * Picks the body format for handlers that encode the response themselves, and keeps the ETags of
+ * the JSON and CBOR representations apart. JSON stays the default.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnWebApplication
+public class ResponseFormats {
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    public MediaType negotiate(NativeWebRequest request) {
+        try {
+            for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+                if (accepted.includes(MediaType.APPLICATION_JSON)) {
+                    return MediaType.APPLICATION_JSON;
+                }
+                if (accepted.includes(MediaType.APPLICATION_CBOR)) {
+                    return MediaType.APPLICATION_CBOR;
+                }
+            }
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Strong ETag of the representation in {@code format}.
+     */
+    public static String eTag(String eTag, MediaType format) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(format)) {
+            return eTag.substring(0, eTag.length() - 1) + "-cbor\"";
+        }
+        return eTag;
+    }
+}
@@ -1,31 +1,46 @@
 package com.ecore.roles.web.rest;
 
+import com.ecore.roles.cache.EncodedResponseCache;
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import com.ecore.roles.limit.ConcurrencyLimited;
+import com.ecore.roles.limit.LimitedResource;
 import com.ecore.roles.model.Role;
 import com.ecore.roles.service.RolesService;
 import com.ecore.roles.web.RolesApi;
 import com.ecore.roles.web.dto.RoleDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import javax.validation.Valid;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
+import static com.ecore.roles.configuration.HttpCacheConfigurationProperties.cacheControl;
 import static com.ecore.roles.web.dto.RoleDto.fromModel;
+import static com.ecore.roles.web.rest.ResponseFormats.eTag;
 
 @RequiredArgsConstructor
 @RestController
+@ConditionalOnWebApplication
+@ConcurrencyLimited(LimitedResource.DATABASE)
 @RequestMapping(value = "/v1/roles")
 public class RolesRestController implements RolesApi {
 
     private final RolesService rolesService;
+    private final HttpCacheConfigurationProperties httpCacheConfigurationProperties;
+    private final ResourceVersions resourceVersions;
+    private final EncodedResponseCache encodedResponseCache;
+    private final ResponseFormats responseFormats;
 
     @Override
     @PostMapping(
-            consumes = {"application/json"},
-            produces = {"application/json"})
+            consumes = {"application/json", "application/cbor"},
+            produces = {"application/json", "application/cbor"})
     public ResponseEntity<RoleDto> createRole(
             @Valid @RequestBody RoleDto role) {
         return ResponseEntity
@@ -34,33 +49,69 @@ public class RolesRestController implements RolesApi {
     }
 
     @Override
-    @PostMapping(
-            produces = {"application/json"})
-    public ResponseEntity<List<RoleDto>> getRoles() {
-
-        List<Role> getRoles = rolesService.GetRoles();
-
-        List<RoleDto> roleDtoList = new ArrayList<>();
-
-        for (Role role : getRoles) {
-            RoleDto roleDto = fromModel(role);
-            roleDtoList.add(roleDto);
+    @GetMapping(
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<byte[]> getRoles(NativeWebRequest request) {
+        MediaType format = responseFormats.negotiate(request);
+        String eTag = eTag(resourceVersions.rolesETag(), format);
+        if (request.checkNotModified(eTag)) {
+            return null;
         }
 
+        byte[] roles = encodedResponseCache.get("roles", eTag, format, rolesService::GetRoles);
+
         return ResponseEntity
                 .status(200)
-                .body(roleDtoList);
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getRoles()))
+                .eTag(eTag)
+                .contentType(format)
+                .body(roles);
     }
 
-    @Override
+    /**
+     * @deprecated use {@code GET /v1/roles}, which can be cached.
+     */
+    @Deprecated
     @PostMapping(
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<byte[]> getRolesByPost(NativeWebRequest request) {
+        return getRoles(request);
+    }
+
+    @Override
+    @GetMapping(
             path = "/{roleId}",
-            produces = {"application/json"})
-    public ResponseEntity<RoleDto> getRole(
-            @PathVariable UUID roleId) {
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<byte[]> getRole(
+            @PathVariable UUID roleId,
+            NativeWebRequest request) {
+        MediaType format = responseFormats.negotiate(request);
+        Role role = rolesService.GetRole(roleId);
+        String eTag = eTag(resourceVersions.rolesETag(), format);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity
                 .status(200)
-                .body(fromModel(rolesService.GetRole(roleId)));
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getRole()))
+                .eTag(eTag)
+                .contentType(format)
+                .body(encodedResponseCache.get("roles/" + roleId, eTag, format, () -> role));
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/roles/{roleId}}, which can be cached.
+     */
+    @Deprecated
+    @PostMapping(
+            path = "/{roleId}",
+            produces = {"application/json", "application/cbor"})
+    public ResponseEntity<byte[]> getRoleByPost(
+            @PathVariable UUID roleId,
+            NativeWebRequest request) {
+        return getRole(roleId, request);
     }
 
 }
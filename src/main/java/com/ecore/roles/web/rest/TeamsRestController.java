@@ -1,10 +1,17 @@
 package com.ecore.roles.web.rest;
 
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import com.ecore.roles.limit.ConcurrencyLimited;
+import com.ecore.roles.limit.LimitedResource;
+import com.ecore.roles.model.TeamRoster;
+import com.ecore.roles.service.RosterService;
 import com.ecore.roles.service.TeamsService;
 import com.ecore.roles.web.TeamsApi;
-import com.ecore.roles.web.dto.TeamDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,37 +19,80 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
-import static com.ecore.roles.web.dto.TeamDto.fromModel;
+import static com.ecore.roles.configuration.HttpCacheConfigurationProperties.cacheControl;
 
 @RequiredArgsConstructor
 @RestController
+@ConcurrencyLimited(LimitedResource.UPSTREAM)
 @RequestMapping(value = "/v1/teams")
 public class TeamsRestController implements TeamsApi {
 
     private final TeamsService teamsService;
+    private final RosterService rosterService;
+    private final HttpCacheConfigurationProperties httpCacheConfigurationProperties;
 
     @Override
+    @GetMapping(
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<List<Team>>> getTeams() {
+        return teamsService.getTeamsAsync().thenApply(this::cacheable);
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/teams}, which can be cached.
+     */
+    @Deprecated
     @PostMapping(
-            produces = {"application/json"})
-    public ResponseEntity<List<TeamDto>> getTeams() {
-        return ResponseEntity
-                .status(200)
-                .body(teamsService.getTeams().stream()
-                        .map(TeamDto::fromModel)
-                        .collect(Collectors.toList()));
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<List<Team>>> getTeamsByPost() {
+        return getTeams();
     }
 
     @Override
+    @GetMapping(
+            path = "/{teamId}",
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<Team>> getTeam(
+            @PathVariable UUID teamId) {
+        return teamsService.getTeamAsync(teamId).thenApply(this::cacheable);
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/teams/{teamId}}, which can be cached.
+     */
+    @Deprecated
     @PostMapping(
             path = "/{teamId}",
-            produces = {"application/json"})
-    public ResponseEntity<TeamDto> getTeam(
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<Team>> getTeamByPost(
             @PathVariable UUID teamId) {
-        return ResponseEntity
+        return getTeam(teamId);
+    }
+
+    /**
+     * The team with the details and role of each member, in one call. Member details are fetched
+     * concurrently; see {@link TeamRoster#isComplete()} for partial results.
+     */
+    @Override
+    @GetMapping(
+            path = "/{teamId}/roster",
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<TeamRoster>> getTeamRoster(
+            @PathVariable UUID teamId) {
+        return rosterService.getRosterAsync(teamId).thenApply(roster -> ResponseEntity
                 .status(200)
-                .body(fromModel(teamsService.getTeam(teamId)));
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getMemberships()))
+                .body(roster));
     }
 
+    private <T> ResponseEntity<T> cacheable(T body) {
+        return ResponseEntity
+                .status(200)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getTeams()))
+                .body(body);
+    }
 }
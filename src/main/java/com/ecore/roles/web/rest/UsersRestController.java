@@ -1,47 +1,100 @@
 package com.ecore.roles.web.rest;
 
+import com.ecore.roles.client.model.User;
+import com.ecore.roles.configuration.FanOutConfigurationProperties;
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import com.ecore.roles.exception.BatchTooLargeException;
+import com.ecore.roles.limit.ConcurrencyLimited;
+import com.ecore.roles.limit.LimitedResource;
 import com.ecore.roles.service.UsersService;
 import com.ecore.roles.web.UsersApi;
-import com.ecore.roles.web.dto.UserDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
-import static com.ecore.roles.web.dto.UserDto.fromModel;
+import static com.ecore.roles.configuration.HttpCacheConfigurationProperties.cacheControl;
 
 @RequiredArgsConstructor
 @RestController
+@ConcurrencyLimited(LimitedResource.UPSTREAM)
 @RequestMapping(value = "/v1/users")
 public class UsersRestController implements UsersApi {
 
     private final UsersService usersService;
+    private final HttpCacheConfigurationProperties httpCacheConfigurationProperties;
+    private final FanOutConfigurationProperties fanOutConfigurationProperties;
 
     @Override
+    @GetMapping(
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<List<User>>> getUsers() {
+        return usersService.getUsersAsync().thenApply(this::cacheable);
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/users}, which can be cached.
+     */
+    @Deprecated
     @PostMapping(
-            produces = {"application/json"})
-    public ResponseEntity<List<UserDto>> getUsers() {
-        return ResponseEntity
-                .status(200)
-                .body(usersService.getUsers().stream()
-                        .map(UserDto::fromModel)
-                        .collect(Collectors.toList()));
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<List<User>>> getUsersByPost() {
+        return getUsers();
+    }
+
+    /**
+     * Several users by id, keyed by id; ids that could not be fetched are left out. At most
+     * {@code fan-out.max-batch-size} distinct ids are accepted.
+     */
+    @Override
+    @GetMapping(
+            params = "ids",
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<Map<UUID, User>>> getUsersById(
+            @RequestParam Set<UUID> ids) {
+        if (ids.size() > fanOutConfigurationProperties.getMaxBatchSize()) {
+            throw new BatchTooLargeException(ids.size(), fanOutConfigurationProperties.getMaxBatchSize());
+        }
+        return usersService.getUsersAsync(ids).thenApply(this::cacheable);
     }
 
     @Override
+    @GetMapping(
+            path = "/{userId}",
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<User>> getUser(
+            @PathVariable UUID userId) {
+        return usersService.getUserAsync(userId).thenApply(this::cacheable);
+    }
+
+    /**
+     * @deprecated use {@code GET /v1/users/{userId}}, which can be cached.
+     */
+    @Deprecated
     @PostMapping(
             path = "/{userId}",
-            produces = {"application/json"})
-    public ResponseEntity<UserDto> getUser(
+            produces = {"application/json", "application/cbor"})
+    public CompletableFuture<ResponseEntity<User>> getUserByPost(
             @PathVariable UUID userId) {
+        return getUser(userId);
+    }
+
+    private <T> ResponseEntity<T> cacheable(T body) {
         return ResponseEntity
                 .status(200)
-                .body(fromModel(usersService.getUser(userId)));
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(cacheControl(httpCacheConfigurationProperties.getUsers()))
+                .body(body);
     }
 }
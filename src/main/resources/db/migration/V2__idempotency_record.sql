@@ -0,0 +1,11 @@
+create table idempotency_record
+(
+    key_hash            char(64)      not null
+        primary key,
+    request_fingerprint varchar(255)  not null,
+    response_status     int           not null,
+    response_body       varchar(4096) not null,
+    created_at          timestamp     not null
+);
+
+create index idx_idempotency_record_created_at on idempotency_record (created_at);
@@ -0,0 +1 @@
+create index idx_membership_team_user on membership (team_id, user_id);
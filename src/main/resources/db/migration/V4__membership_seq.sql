@@ -0,0 +1,2 @@
+alter table membership
+    add column seq bigint not null auto_increment unique;
@@ -0,0 +1,11 @@
+create table resource_version
+(
+    resource varchar(32) not null
+        primary key,
+    version  bigint      not null
+);
+
+insert into resource_version(resource, version)
+values ('roles', 0);
+insert into resource_version(resource, version)
+values ('memberships', 0);
@@ -0,0 +1,6 @@
+create table database_identity
+(
+    name varchar(32) not null
+        primary key,
+    id   char(36)    not null
+);
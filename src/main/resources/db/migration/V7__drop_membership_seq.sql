@@ -0,0 +1,2 @@
+alter table membership
+    drop column seq;
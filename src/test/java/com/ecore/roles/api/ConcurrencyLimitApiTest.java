@@ -0,0 +1,51 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "concurrency-limit.database.initial-limit=0",
+                "concurrency-limit.database.min-limit=0",
+                "concurrency-limit.retry-after=2s"})
+public class ConcurrencyLimitApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+    }
+
+    @Test
+    void shouldShedRequestsAboveTheLimit() {
+        when()
+                .get("/v1/roles")
+                .then()
+                .statusCode(503)
+                .header("Retry-After", "2")
+                .body("error", equalTo("Too many concurrent database requests, retry later"));
+
+        given()
+                .queryParam("tag", "resource:database")
+                .when()
+                .get("/actuator/metrics/roles.concurrency.rejections")
+                .then()
+                .statusCode(200)
+                .body("measurements.statistic", hasItem("COUNT"));
+        when()
+                .get("/actuator/metrics/roles.concurrency.limit")
+                .then()
+                .statusCode(200)
+                .body("availableTags.find { it.tag == 'resource' }.values", hasItem("upstream"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.ecore.roles.utils.RestAssuredHelper.createRole;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.endpoints.web.exposure.include=health,flightrecorder")
+public class FlightRecorderApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+    }
+
+    @AfterEach
+    void tearDown() {
+        when().delete("/actuator/flightrecorder");
+    }
+
+    @Test
+    void shouldRecordRepositoryEvents(@TempDir Path directory) throws Exception {
+        given()
+                .contentType(JSON)
+                .body("{\"settings\":\"default\"}")
+                .when()
+                .post("/actuator/flightrecorder")
+                .then()
+                .statusCode(200)
+                .body("state", equalTo("RUNNING"));
+
+        createRole(DEVELOPER_ROLE())
+                .validate(400, "Role already exists");
+
+        when()
+                .delete("/actuator/flightrecorder")
+                .then()
+                .statusCode(200)
+                .body("state", equalTo("STOPPED"));
+        byte[] recording = when()
+                .get("/actuator/flightrecorder")
+                .then()
+                .statusCode(200)
+                .extract().asByteArray();
+        Path file = Files.write(directory.resolve("recording.jfr"), recording);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.ecore.roles.RepositoryCall"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("repositoryMethod")).isEqualTo("RoleRepository.findByName");
+                    assertThat(event.getString("resourceId")).isEqualTo(DEVELOPER_ROLE().getName());
+                    assertThat(event.getString("outcome")).isEqualTo("SUCCESS");
+                    assertThat(event.getLong("rows")).isEqualTo(1);
+                });
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+    }
+}
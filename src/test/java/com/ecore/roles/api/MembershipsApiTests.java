@@ -1,8 +1,11 @@
 package com.ecore.roles.api;
 
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.cache.VersionedList;
 import com.ecore.roles.model.Membership;
 import com.ecore.roles.model.Role;
 import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.MembershipsService;
 import com.ecore.roles.utils.RestAssuredHelper;
 import com.ecore.roles.web.dto.MembershipDto;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,9 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+import java.util.UUID;
+
+import static com.ecore.roles.configuration.CacheConfiguration.MEMBERSHIPS_CACHE;
 import static com.ecore.roles.utils.MockUtils.mockGetTeamById;
 import static com.ecore.roles.utils.RestAssuredHelper.createMembership;
 import static com.ecore.roles.utils.RestAssuredHelper.getMemberships;
@@ -24,6 +32,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class MembershipsApiTests {
 
     private final MembershipRepository membershipRepository;
+    private final MembershipsService membershipsService;
+    private final CacheManager cacheManager;
+    private final ResourceVersions resourceVersions;
     private final RestTemplate restTemplate;
 
     private MockRestServiceServer mockServer;
@@ -32,8 +43,16 @@ public class MembershipsApiTests {
     private int port;
 
     @Autowired
-    public MembershipsApiTests(MembershipRepository membershipRepository, RestTemplate restTemplate) {
+    public MembershipsApiTests(
+            MembershipRepository membershipRepository,
+            MembershipsService membershipsService,
+            CacheManager cacheManager,
+            ResourceVersions resourceVersions,
+            RestTemplate restTemplate) {
         this.membershipRepository = membershipRepository;
+        this.membershipsService = membershipsService;
+        this.cacheManager = cacheManager;
+        this.resourceVersions = resourceVersions;
         this.restTemplate = restTemplate;
     }
 
@@ -42,6 +61,7 @@ public class MembershipsApiTests {
         mockServer = MockRestServiceServer.createServer(restTemplate);
         RestAssuredHelper.setUp(port);
         membershipRepository.deleteAll();
+        cacheManager.getCache(MEMBERSHIPS_CACHE).clear();
     }
 
     @Test
@@ -104,6 +124,34 @@ public class MembershipsApiTests {
                 .validate(400, "Membership already exists");
     }
 
+    @Test
+    void shouldReplayMembershipWhenRetriedWithIdempotencyKey() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        MembershipDto createdMembership = createMembership(DEFAULT_MEMBERSHIP(), idempotencyKey)
+                .statusCode(200)
+                .extract().as(MembershipDto.class);
+
+        MembershipDto replayedMembership = createMembership(DEFAULT_MEMBERSHIP(), idempotencyKey)
+                .statusCode(200)
+                .header("Idempotent-Replayed", "true")
+                .extract().as(MembershipDto.class);
+
+        assertThat(replayedMembership.getId()).isEqualTo(createdMembership.getId());
+        assertThat(membershipRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailToReuseIdempotencyKeyForAnotherMembership() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        createMembership(DEFAULT_MEMBERSHIP(), idempotencyKey)
+                .statusCode(200);
+        Membership otherMembership = DEFAULT_MEMBERSHIP();
+        otherMembership.setTeamId(UUID_1);
+
+        createMembership(otherMembership, idempotencyKey)
+                .validate(422, "Idempotency-Key was already used for a different request");
+    }
+
     @Test
     void shouldFailToCreateRoleMembershipWhenRoleDoesNotExist() {
         Membership expectedMembership = DEFAULT_MEMBERSHIP();
@@ -155,6 +203,37 @@ public class MembershipsApiTests {
         assertThat(actualMemberships.length).isEqualTo(0);
     }
 
+    @Test
+    void shouldServeRepeatedSearchesFromCacheUntilMembershipsChange() {
+        membershipRepository.save(membership(DEVELOPER_ROLE(), UUID_1));
+        membershipRepository.save(membership(PRODUCT_OWNER_ROLE(), UUID_2));
+        assertThat(getMemberships(DEVELOPER_ROLE_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(1);
+        assertThat(getMemberships(PRODUCT_OWNER_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(1);
+
+        membershipRepository.save(membership(DEVELOPER_ROLE(), UUID_3));
+        assertThat(getMemberships(DEVELOPER_ROLE_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(1);
+
+        membershipsService.assignRoleToMembership(membership(DEVELOPER_ROLE(), UUID_4));
+        assertThat(getMemberships(DEVELOPER_ROLE_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(3);
+        assertThat(getMemberships(PRODUCT_OWNER_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldNotServeSearchCachedByReadThatRacedAWrite() {
+        long versionBeforeWrite = resourceVersions.membershipsVersion();
+        membershipsService.assignRoleToMembership(membership(DEVELOPER_ROLE(), UUID_1));
+        cacheManager.getCache(MEMBERSHIPS_CACHE)
+                .put(DEVELOPER_ROLE_UUID, new VersionedList<>(versionBeforeWrite, List.of()));
+
+        assertThat(getMemberships(DEVELOPER_ROLE_UUID).statusCode(200).extract().as(MembershipDto[].class))
+                .hasSize(1);
+    }
+
     @Test
     void shouldFailToGetAllMembershipsWhenRoleIdIsNull() {
         getMemberships(null)
@@ -170,4 +249,12 @@ public class MembershipsApiTests {
                 .extract().as(MembershipDto.class);
     }
 
+    private static Membership membership(Role role, UUID userId) {
+        return Membership.builder()
+                .role(role)
+                .userId(userId)
+                .teamId(ORDINARY_CORAL_LYNX_TEAM_UUID)
+                .build();
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import static com.ecore.roles.utils.RestAssuredHelper.createRole;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.containsString;
+
+@AutoConfigureMetrics
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MetricsApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+    }
+
+    @Test
+    void shouldExposeEndpointRepositoryAndDomainMetrics() {
+        createRole(DEVELOPER_ROLE())
+                .validate(400, "Role already exists");
+
+        when()
+                .get("/actuator/prometheus")
+                .then()
+                .statusCode(200)
+                .body(containsString("http_server_requests_seconds_bucket{"))
+                .body(containsString("uri=\"/v1/roles\""))
+                .body(containsString("spring_data_repository_invocations_seconds_bucket{"))
+                .body(containsString("repository=\"RoleRepository\""))
+                .body(containsString(
+                        "roles_domain_exceptions_total{application=\"roles-api\",exception=\"ResourceExistsException\",status=\"400\",}"));
+    }
+
+    @Test
+    void shouldNotExposeDiagnosticEndpointsByDefault() {
+        when().get("/actuator/querystats").then().statusCode(404);
+        when().get("/actuator/slowrequests").then().statusCode(404);
+        when().get("/actuator/flightrecorder").then().statusCode(404);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import static com.ecore.roles.utils.RestAssuredHelper.createRole;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"management.endpoints.web.exposure.include=health,querystats",
+                "query-monitoring.statistics-enabled=true",
+                "query-monitoring.slow-query-threshold=0ms"})
+public class QueryStatisticsApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+        when().delete("/actuator/querystats").then().statusCode(204);
+    }
+
+    @Test
+    void shouldReportQueryStatisticsAndSlowQueries() {
+        createRole(DEVELOPER_ROLE())
+                .validate(400, "Role already exists");
+
+        when()
+                .get("/actuator/querystats")
+                .then()
+                .statusCode(200)
+                .body("enabled", equalTo(true))
+                .body("queryExecutions", greaterThan(0))
+                .body("queries.query", hasItem(containsString("Role")))
+                .body("queries[0].executions", greaterThan(0))
+                .body("queries[0].maxMillis", notNullValue())
+                .body("slowQueries[0].repositoryMethod", equalTo("RoleRepository.findByName"))
+                .body("slowQueries[0].caller", equalTo("RolesServiceImpl.CreateRole"))
+                .body("slowQueries[0].parameters", equalTo("(String)"))
+                .body("slowQueries[0].statements[0]", containsString("from role"));
+    }
+}
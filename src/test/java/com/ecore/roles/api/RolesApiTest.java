@@ -5,6 +5,9 @@ import com.ecore.roles.model.Role;
 import com.ecore.roles.repository.RoleRepository;
 import com.ecore.roles.utils.RestAssuredHelper;
 import com.ecore.roles.web.dto.RoleDto;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,10 +33,12 @@ import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM_UUID;
 import static com.ecore.roles.utils.TestData.PRODUCT_OWNER_ROLE;
 import static com.ecore.roles.utils.TestData.TESTER_ROLE;
 import static com.ecore.roles.utils.TestData.UUID_1;
+import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class RolesApiTest {
@@ -123,6 +128,87 @@ public class RolesApiTest {
                 .body("name", equalTo(expectedRole.getName()));
     }
 
+    @Test
+    void shouldAllowCachingOfRoles() {
+        getRoles()
+                .statusCode(200)
+                .header("Cache-Control", "max-age=60, must-revalidate, public");
+        getRole(DEVELOPER_ROLE().getId())
+                .statusCode(200)
+                .header("Cache-Control", "max-age=3600, must-revalidate, public");
+    }
+
+    @Test
+    void shouldReturnNotModifiedUntilRoleIsCreated() {
+        String eTag = getRoles()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        sendRequest(given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/v1/roles")
+                .then())
+                        .statusCode(304)
+                        .header("ETag", eTag);
+
+        createRole(DEVOPS_ROLE());
+
+        sendRequest(given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/v1/roles")
+                .then())
+                        .statusCode(200)
+                        .header("ETag", not(equalTo(eTag)));
+    }
+
+    @Test
+    void shouldNotReturnNotModifiedForMissingRole() {
+        String eTag = getRole(DEVELOPER_ROLE().getId())
+                .statusCode(200)
+                .extract().header("ETag");
+
+        sendRequest(given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/v1/roles/" + UUID_1)
+                .then())
+                        .validate(404, format("Role %s not found", UUID_1));
+    }
+
+    @Test
+    void shouldGetAllRolesAsCbor() throws Exception {
+        String jsonETag = getRoles()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        ExtractableResponse<Response> response = sendRequest(given()
+                .accept("application/cbor")
+                .when()
+                .get("/v1/roles")
+                .then())
+                        .statusCode(200)
+                        .contentType("application/cbor")
+                        .header("Vary", "Accept")
+                        .header("ETag", not(equalTo(jsonETag)))
+                        .extract();
+        RoleDto[] roles = new CBORMapper().readValue(response.asByteArray(), RoleDto[].class);
+
+        assertThat(roles).contains(RoleDto.fromModel(DEVELOPER_ROLE()));
+    }
+
+    @Test
+    void shouldStillGetRoleByIdWithPost() {
+        Role expectedRole = DEVELOPER_ROLE();
+
+        sendRequest(when()
+                .post("/v1/roles/" + expectedRole.getId())
+                .then())
+                        .statusCode(200)
+                        .body("name", equalTo(expectedRole.getName()));
+    }
+
     @Test
     void shouldFailToGetRoleById() {
         getRole(UUID_1)
@@ -0,0 +1,50 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import static com.ecore.roles.utils.RestAssuredHelper.createRole;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"management.endpoints.web.exposure.include=health,slowrequests",
+                "request-timing.slow-request-threshold=0ms"})
+public class SlowRequestsApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+        when().delete("/actuator/slowrequests").then().statusCode(204);
+    }
+
+    @Test
+    void shouldKeepPhaseBreakdownOfSlowRequests() {
+        createRole(DEVELOPER_ROLE())
+                .validate(400, "Role already exists");
+
+        when()
+                .get("/actuator/slowrequests")
+                .then()
+                .statusCode(200)
+                .body("[0].method", equalTo("POST"))
+                .body("[0].uri", equalTo("/v1/roles"))
+                .body("[0].status", equalTo(400))
+                .body("[0].phases.keySet()", contains(
+                        "deserialize", "validate", "service", "repository", "upstream", "serialize", "other"))
+                .body("[0].phases.deserialize", greaterThan(0f))
+                .body("[0].phases.validate", greaterThan(0f))
+                .body("[0].phases.repository", greaterThan(0f))
+                .body("[0].phases.serialize", greaterThan(0f))
+                .body("[0].phases.upstream", equalTo(0f));
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecore.roles.api;
+
+import com.ecore.roles.utils.RestAssuredHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "fan-out.max-batch-size=2")
+public class UsersApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredHelper.setUp(port);
+    }
+
+    @Test
+    void shouldRejectBatchAboveMaxSize() {
+        given()
+                .queryParam("ids", UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())
+                .when()
+                .get("/v1/users")
+                .then()
+                .statusCode(400)
+                .body("error", equalTo("Batch of 3 ids exceeds the maximum of 2"));
+    }
+}
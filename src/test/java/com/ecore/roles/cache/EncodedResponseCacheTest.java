@@ -0,0 +1,49 @@
+package com.ecore.roles.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodedResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private EncodedResponseCache encodedResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        encodedResponseCache = new EncodedResponseCache(new ConcurrentMapCacheManager(), new ObjectMapper(),
+                new MappingJackson2CborHttpMessageConverter());
+    }
+
+    @Test
+    void shouldServeEncodedBodyWhileVersionIsUnchanged() {
+        byte[] first = encodedResponseCache.get("roles", "v1", MediaType.APPLICATION_JSON, this::load);
+        byte[] second = encodedResponseCache.get("roles", "v1", MediaType.APPLICATION_JSON, this::load);
+
+        assertThat(new String(first, UTF_8)).isEqualTo("[\"Developer\",1]");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldRebuildBodyWhenVersionChanges() {
+        encodedResponseCache.get("roles", "v1", MediaType.APPLICATION_JSON, this::load);
+        byte[] rebuilt = encodedResponseCache.get("roles", "v2", MediaType.APPLICATION_JSON, this::load);
+
+        assertThat(new String(rebuilt, UTF_8)).isEqualTo("[\"Developer\",2]");
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<Object> load() {
+        return List.of("Developer", loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecore.roles.cache;
+
+import com.ecore.roles.configuration.HttpCacheConfigurationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ResourceVersionsTest {
+
+    private static final String BUMP_ELSEWHERE =
+            "update resource_version set version = version + 1 where resource = 'memberships'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private HttpCacheConfigurationProperties properties;
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HttpCacheConfigurationProperties();
+        resourceVersions = new ResourceVersions(jdbcTemplate, properties);
+    }
+
+    @Test
+    void shouldChangeETagRightAfterLocalWrite() {
+        properties.setVersionCheckInterval(Duration.ofHours(1));
+        String before = resourceVersions.membershipsETag();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resourceVersions.membershipsChanged();
+            assertThat(resourceVersions.membershipsETag()).isEqualTo(before);
+        });
+
+        assertThat(resourceVersions.membershipsETag()).isNotEqualTo(before);
+        assertThat(resourceVersions.rolesETag()).isEqualTo(resourceVersions.rolesETag());
+    }
+
+    @Test
+    void shouldRefuseToBumpOutsideTransactionOfWrite() {
+        assertThatThrownBy(() -> resourceVersions.rolesChanged())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNoticeWritesOfOtherInstancesAfterCheckInterval() throws InterruptedException {
+        properties.setVersionCheckInterval(Duration.ofMillis(50));
+        String before = resourceVersions.membershipsETag();
+
+        jdbcTemplate.update(BUMP_ELSEWHERE);
+        assertThat(resourceVersions.membershipsETag()).isEqualTo(before);
+
+        Thread.sleep(100);
+        assertThat(resourceVersions.membershipsETag()).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecore.roles.client;
+
+import com.ecore.roles.configuration.HedgingConfigurationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamHedgingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgingConfigurationProperties properties;
+    private UpstreamHedging upstreamHedging;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HedgingConfigurationProperties();
+        properties.setEnabled(true);
+        properties.setMinSamples(5);
+        properties.setBudget(1);
+        upstreamHedging = new UpstreamHedging(properties, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            upstreamHedging.hedge("users", Mono.delay(Duration.ofMillis(20)).thenReturn("warm")).block();
+        }
+    }
+
+    @Test
+    void shouldAnswerFromHedgeAndCancelSlowCall() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofSeconds(10)).thenReturn("slow").doOnCancel(() -> cancelled.set(true))
+                : Mono.just("hedge"));
+
+        String result = upstreamHedging.hedge("users", call).block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+        assertThat(cancelled).isTrue();
+        assertThat(meterRegistry.counter(UpstreamHedging.HEDGES_METRIC, "upstream", "users", "outcome", "won")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepSlowCallWhenHedgeFails() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(300)).thenReturn("slow")
+                : Mono.error(new IllegalStateException("connection refused")));
+
+        String result = upstreamHedging.hedge("users", call).block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldFailWithFirstCallErrorWhenBothFail() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.delay(Duration.ofMillis(300)).then(Mono.error(new IllegalStateException("first")))
+                : Mono.error(new IllegalStateException("hedge")));
+
+        assertThatThrownBy(() -> upstreamHedging.hedge("users", call).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("first");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldNotHedgeBeyondBudget() {
+        properties.setBudget(0);
+        upstreamHedging = new UpstreamHedging(properties, new SimpleMeterRegistry());
+        for (int i = 0; i < 5; i++) {
+            upstreamHedging.hedge("users", Mono.delay(Duration.ofMillis(20)).thenReturn("warm")).block();
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = upstreamHedging.hedge("users", Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(300)).thenReturn("slow");
+        })).block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldNotHedgeWhenDisabled() {
+        properties.setEnabled(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        upstreamHedging.hedge("users", Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(300)).thenReturn("slow");
+        })).block(Duration.ofSeconds(5));
+
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecore.roles.client;
+
+import com.ecore.roles.configuration.UpstreamRetryConfigurationProperties;
+import com.ecore.roles.deadline.Deadline;
+import com.ecore.roles.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamRetriesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UpstreamRetryConfigurationProperties properties;
+    private UpstreamRetries upstreamRetries;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UpstreamRetryConfigurationProperties();
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        upstreamRetries = new UpstreamRetries(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldRetryServerErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = upstreamRetries.call("users", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "user";
+        });
+
+        assertThat(result).isEqualTo("user");
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter(UpstreamRetries.RETRIES_METRIC, "upstream", "users").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRetryClientErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> upstreamRetries.call("users", () -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRetryWhenDeadlineIsShorterThanBackoff() throws Exception {
+        properties.setInitialBackoff(Duration.ofSeconds(5));
+        properties.setMaxBackoff(Duration.ofSeconds(5));
+        properties.setJitter(0);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(
+                () -> Deadline.after(Duration.ofSeconds(1)).wrap(() -> upstreamRetries.call("users", () -> {
+                    calls.incrementAndGet();
+                    throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+                })).call()).isInstanceOf(HttpServerErrorException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldCancelNonBlockingCallAtDeadline() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> call = Mono.delay(Duration.ofSeconds(10)).thenReturn("slow")
+                .doOnCancel(() -> cancelled.set(true));
+
+        Mono<String> bounded = Deadline.after(Duration.ofMillis(100))
+                .wrap(() -> upstreamRetries.apply("teams", call)).call();
+
+        assertThatThrownBy(() -> bounded.block(Duration.ofSeconds(5)))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(cancelled).isTrue();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecore.roles.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VirtualThreadsTest {
+
+    @Test
+    void shouldRunTasksOnVirtualThreadsFromJava21On() throws Exception {
+        if (Runtime.version().feature() < 21) {
+            assertThat(VirtualThreads.isSupported()).isFalse();
+            assertThrows(IllegalStateException.class, VirtualThreads::newThreadPerTaskExecutor);
+            return;
+        }
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor();
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get();
+            assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecore.roles.idempotency;
+
+import com.ecore.roles.exception.IdempotencyKeyInProgressException;
+import com.ecore.roles.model.Role;
+import com.ecore.roles.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotentResponsesTest {
+
+    @Autowired
+    private IdempotentResponses idempotentResponses;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    void shouldNotRunWriteTwiceForConcurrentRequestsWithSameKey() {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger writes = new AtomicInteger();
+
+        ResponseEntity<String> first = idempotentResponses.execute(key, "request", String.class, () -> {
+            writes.incrementAndGet();
+            CompletableFuture<ResponseEntity<String>> concurrent = CompletableFuture.supplyAsync(
+                    () -> idempotentResponses.execute(key, "request", String.class, () -> {
+                        writes.incrementAndGet();
+                        return ResponseEntity.ok("second");
+                    }));
+            assertThatThrownBy(concurrent::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IdempotencyKeyInProgressException.class);
+            return ResponseEntity.ok("first");
+        });
+
+        assertThat(first.getBody()).isEqualTo("first");
+        assertThat(writes).hasValue(1);
+        assertThat(idempotentResponses.execute(key, "request", String.class, () -> ResponseEntity.ok("third"))
+                .getBody()).isEqualTo("first");
+    }
+
+    @Test
+    void shouldRollBackWriteWhenResponseCannotBeStored() {
+        String roleName = "Idempotency " + UUID.randomUUID();
+
+        assertThatThrownBy(() -> idempotentResponses.execute(UUID.randomUUID().toString(), "request",
+                String.class, () -> {
+                    roleRepository.save(Role.builder().name(roleName).build());
+                    return ResponseEntity.ok("x".repeat(5000));
+                }))
+                        .isInstanceOf(DataAccessException.class);
+
+        assertThat(roleRepository.findByName(roleName)).isEmpty();
+    }
+}
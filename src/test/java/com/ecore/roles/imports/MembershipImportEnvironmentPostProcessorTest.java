@@ -0,0 +1,54 @@
+package com.ecore.roles.imports;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.ecore.roles.imports.MembershipImportEnvironmentPostProcessor.WEB_APPLICATION_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MembershipImportEnvironmentPostProcessorTest {
+
+    private final MembershipImportEnvironmentPostProcessor postProcessor =
+            new MembershipImportEnvironmentPostProcessor();
+
+    @Test
+    void shouldStartWithoutWebServerWhenImportingAndExiting() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("membership-import.file", "memberships.csv");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(WEB_APPLICATION_TYPE)).isEqualTo("none");
+    }
+
+    @Test
+    void shouldKeepWebServerWhenServingAfterImport() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("membership-import.file", "memberships.csv")
+                .withProperty("membership-import.exit-when-done", "false");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(WEB_APPLICATION_TYPE)).isNull();
+    }
+
+    @Test
+    void shouldKeepExplicitWebApplicationType() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("membership-import.file", "memberships.csv")
+                .withProperty(WEB_APPLICATION_TYPE, "servlet");
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(WEB_APPLICATION_TYPE)).isEqualTo("servlet");
+    }
+
+    @Test
+    void shouldKeepWebServerWithoutImport() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, null);
+
+        assertThat(environment.getProperty(WEB_APPLICATION_TYPE)).isNull();
+    }
+}
@@ -0,0 +1,154 @@
+package com.ecore.roles.imports;
+
+import com.ecore.roles.cache.ResourceVersions;
+import com.ecore.roles.configuration.MembershipImportConfigurationProperties;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.repository.RoleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE_UUID;
+import static com.ecore.roles.utils.TestData.GIANNI_USER_UUID;
+import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM_UUID;
+import static com.ecore.roles.utils.TestData.PRODUCT_OWNER_UUID;
+import static com.ecore.roles.utils.TestData.UUID_1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MembershipImporterTest {
+
+    private static final UUID TEAM = ORDINARY_CORAL_LYNX_TEAM_UUID;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @TempDir
+    Path directory;
+
+    private MembershipImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        membershipRepository.deleteAll();
+        MembershipImportConfigurationProperties properties = new MembershipImportConfigurationProperties();
+        properties.setBatchSize(2);
+        importer = new MembershipImporter(properties, roleRepository, jdbcTemplate, transactionManager,
+                objectMapper, resourceVersions);
+    }
+
+    @Test
+    void shouldImportCsvAndRejectInvalidRows() throws Exception {
+        Path file = write("memberships.csv",
+                "roleId,teamId,teamMemberId",
+                DEVELOPER_ROLE_UUID + "," + TEAM + "," + GIANNI_USER_UUID,
+                PRODUCT_OWNER_UUID + "," + TEAM + "," + UUID_1,
+                UUID_1 + "," + TEAM + "," + UUID.randomUUID(),
+                DEVELOPER_ROLE_UUID + "," + TEAM,
+                PRODUCT_OWNER_UUID + "," + TEAM + "," + GIANNI_USER_UUID);
+
+        MembershipImportReport report = importer.importFile(file);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(3);
+        assertThat(membershipRepository.findByTeamId(TEAM))
+                .extracting(membership -> membership.getUserId())
+                .containsExactlyInAnyOrder(GIANNI_USER_UUID, UUID_1);
+        assertThat(membershipRepository.findByUserIdAndTeamId(GIANNI_USER_UUID, TEAM).get().getRole().getId())
+                .isEqualTo(DEVELOPER_ROLE_UUID);
+        assertThat(Files.readAllLines(directory.resolve("memberships.csv.rejected")))
+                .extracting(line -> line.split("\t")[0] + " " + line.split("\t")[1])
+                .containsExactly(
+                        "4 unknown role " + UUID_1,
+                        "5 missing teamMemberId",
+                        "6 membership of this user in this team exists");
+        assertThat(directory.resolve("memberships.csv.checkpoint")).doesNotExist();
+    }
+
+    @Test
+    void shouldImportNdjson() throws Exception {
+        Path file = write("memberships.ndjson",
+                "{\"roleId\":\"" + DEVELOPER_ROLE_UUID + "\",\"teamId\":\"" + TEAM
+                        + "\",\"teamMemberId\":\"" + GIANNI_USER_UUID + "\"}",
+                "{\"roleId\":\"" + DEVELOPER_ROLE_UUID + "\",\"teamId\":\"" + TEAM + "\"");
+
+        MembershipImportReport report = importer.importFile(file);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(membershipRepository.findByUserIdAndTeamId(GIANNI_USER_UUID, TEAM)).isPresent();
+    }
+
+    @Test
+    void shouldResumeAfterCheckpoint() throws Exception {
+        String first = GIANNI_USER_UUID + "," + TEAM + "," + DEVELOPER_ROLE_UUID;
+        String second = UUID_1 + "," + TEAM + "," + DEVELOPER_ROLE_UUID;
+        UUID third = UUID.randomUUID();
+        Path file = write("memberships.csv", first, second, third + "," + TEAM + "," + DEVELOPER_ROLE_UUID);
+        long offset = (first + "\n" + second + "\n").getBytes(StandardCharsets.UTF_8).length;
+        ImportCheckpoint.start(file, importer.databaseId()).advance(offset, 2, 2, 0)
+                .save(directory.resolve("memberships.csv.checkpoint"));
+
+        MembershipImportReport report = importer.importFile(file);
+
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getRowsThisRun()).isEqualTo(1);
+        assertThat(membershipRepository.findByTeamId(TEAM))
+                .extracting(membership -> membership.getUserId())
+                .containsExactly(third);
+    }
+
+    @Test
+    void shouldStartOverWhenCheckpointIsFromAnotherDatabase() throws Exception {
+        String first = GIANNI_USER_UUID + "," + TEAM + "," + DEVELOPER_ROLE_UUID;
+        String second = UUID_1 + "," + TEAM + "," + DEVELOPER_ROLE_UUID;
+        Path file = write("memberships.csv", first, second);
+        long offset = (first + "\n").getBytes(StandardCharsets.UTF_8).length;
+        ImportCheckpoint.start(file, UUID.randomUUID().toString()).advance(offset, 1, 1, 0)
+                .save(directory.resolve("memberships.csv.checkpoint"));
+
+        MembershipImportReport report = importer.importFile(file);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRowsThisRun()).isEqualTo(2);
+        assertThat(membershipRepository.findByTeamId(TEAM)).hasSize(2);
+    }
+
+    @Test
+    void shouldBumpMembershipsVersionPerBatch() throws Exception {
+        Path file = write("memberships.csv",
+                GIANNI_USER_UUID + "," + TEAM + "," + DEVELOPER_ROLE_UUID,
+                UUID_1 + "," + TEAM + "," + DEVELOPER_ROLE_UUID,
+                UUID.randomUUID() + "," + TEAM + "," + DEVELOPER_ROLE_UUID);
+        long before = resourceVersions.membershipsVersion();
+
+        importer.importFile(file);
+
+        assertThat(resourceVersions.membershipsVersion()).isEqualTo(before + 2);
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+}
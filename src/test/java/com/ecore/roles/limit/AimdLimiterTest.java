@@ -0,0 +1,74 @@
+package com.ecore.roles.limit;
+
+import com.ecore.roles.configuration.ConcurrencyLimitConfigurationProperties.Limit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private AimdLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        Limit settings = new Limit();
+        settings.setInitialLimit(4);
+        settings.setMinLimit(2);
+        settings.setMaxLimit(6);
+        settings.setLatencyThreshold(Duration.ofMillis(100));
+        settings.setBackoffRatio(0.5);
+        limiter = new AimdLimiter(settings);
+    }
+
+    @Test
+    void shouldRejectRequestsAboveTheLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldGrowWhileBusyUpToTheMaximum() {
+        for (int i = 0; i < 10; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.release(FAST, false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldNotGrowWhileMostlyIdle() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldBackOffOnSlowOrFailedRequestsDownToTheMinimum() {
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+}
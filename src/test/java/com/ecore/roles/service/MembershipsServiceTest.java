@@ -1,5 +1,6 @@
 package com.ecore.roles.service;
 
+import com.ecore.roles.cache.ResourceVersions;
 import com.ecore.roles.exception.InvalidArgumentException;
 import com.ecore.roles.exception.ResourceExistsException;
 import com.ecore.roles.model.Membership;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.util.Optional;
 
@@ -37,6 +39,10 @@ class MembershipsServiceTest {
     private UsersService usersService;
     @Mock
     private TeamsService teamsService;
+    @Mock
+    private ResourceVersions resourceVersions;
+    @Mock
+    private CacheManager cacheManager;
 
     @Test
     public void shouldCreateMembership() {
@@ -55,6 +61,7 @@ class MembershipsServiceTest {
         assertNotNull(actualMembership);
         assertEquals(actualMembership, expectedMembership);
         verify(roleRepository).findById(expectedMembership.getRole().getId());
+        verify(resourceVersions).membershipsChanged();
     }
 
     @Test
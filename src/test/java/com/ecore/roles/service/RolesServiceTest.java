@@ -1,5 +1,6 @@
 package com.ecore.roles.service;
 
+import com.ecore.roles.cache.ResourceVersions;
 import com.ecore.roles.exception.ResourceNotFoundException;
 import com.ecore.roles.model.Role;
 import com.ecore.roles.repository.MembershipRepository;
@@ -19,6 +20,7 @@ import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +38,9 @@ class RolesServiceTest {
     @Mock
     private MembershipsService membershipsService;
 
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @Test
     public void shouldCreateRole() {
         Role developerRole = DEVELOPER_ROLE();
@@ -45,6 +50,7 @@ class RolesServiceTest {
 
         assertNotNull(role);
         assertEquals(developerRole, role);
+        verify(resourceVersions).rolesChanged();
     }
 
     @Test
@@ -0,0 +1,93 @@
+package com.ecore.roles.service;
+
+import com.ecore.roles.exception.ResourceNotFoundException;
+import com.ecore.roles.model.RosterMember;
+import com.ecore.roles.model.TeamRoster;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.impl.RosterServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static com.ecore.roles.utils.TestData.DEFAULT_MEMBERSHIP;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static com.ecore.roles.utils.TestData.GIANNI_USER;
+import static com.ecore.roles.utils.TestData.GIANNI_USER_UUID;
+import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM;
+import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM_UUID;
+import static com.ecore.roles.utils.TestData.UUID_2;
+import static com.ecore.roles.utils.TestData.UUID_3;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RosterServiceTest {
+
+    @Mock
+    private TeamsService teamsService;
+    @Mock
+    private UsersService usersService;
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    private RosterService rosterService;
+
+    @BeforeEach
+    void setUp() {
+        rosterService = new RosterServiceImpl(teamsService, usersService, membershipRepository);
+    }
+
+    @Test
+    void shouldGetMembersWithTheirDetailsAndRoles() {
+        when(teamsService.getTeamAsync(ORDINARY_CORAL_LYNX_TEAM_UUID))
+                .thenReturn(completedFuture(ORDINARY_CORAL_LYNX_TEAM()));
+        when(membershipRepository.findByTeamId(ORDINARY_CORAL_LYNX_TEAM_UUID))
+                .thenReturn(List.of(DEFAULT_MEMBERSHIP()));
+        when(usersService.getUsersAsync(Set.of(UUID_2, UUID_3, GIANNI_USER_UUID)))
+                .thenReturn(completedFuture(Map.of(
+                        UUID_2, GIANNI_USER(), UUID_3, GIANNI_USER(), GIANNI_USER_UUID, GIANNI_USER())));
+
+        TeamRoster roster = rosterService.getRosterAsync(ORDINARY_CORAL_LYNX_TEAM_UUID).join();
+
+        assertThat(roster.isComplete()).isTrue();
+        assertThat(roster.getMembers()).extracting(RosterMember::getUserId)
+                .containsExactly(UUID_2, UUID_3, GIANNI_USER_UUID);
+        assertThat(roster.getMembers().get(2).getRole().getId()).isEqualTo(DEVELOPER_ROLE().getId());
+        assertThat(roster.getMembers().get(0).getRole()).isNull();
+    }
+
+    @Test
+    void shouldReturnPartialRosterWhenUsersAreMissing() {
+        when(teamsService.getTeamAsync(ORDINARY_CORAL_LYNX_TEAM_UUID))
+                .thenReturn(completedFuture(ORDINARY_CORAL_LYNX_TEAM()));
+        when(usersService.getUsersAsync(Set.of(UUID_2, UUID_3, GIANNI_USER_UUID)))
+                .thenReturn(completedFuture(Map.of(GIANNI_USER_UUID, GIANNI_USER())));
+
+        TeamRoster roster = rosterService.getRosterAsync(ORDINARY_CORAL_LYNX_TEAM_UUID).join();
+
+        assertThat(roster.isComplete()).isFalse();
+        assertThat(roster.getMembers()).hasSize(3);
+        assertThat(roster.getMembers().get(0).getUser()).isNull();
+        assertThat(roster.getMembers().get(1).getUser()).isNull();
+        assertThat(roster.getMembers().get(2).getUser()).isNotNull();
+    }
+
+    @Test
+    void shouldFailToGetRosterWhenTeamDoesNotExist() {
+        when(teamsService.getTeamAsync(ORDINARY_CORAL_LYNX_TEAM_UUID)).thenReturn(completedFuture(null));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> rosterService.getRosterAsync(ORDINARY_CORAL_LYNX_TEAM_UUID).join());
+
+        assertThat(exception).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -2,28 +2,69 @@ package com.ecore.roles.service;
 
 import com.ecore.roles.client.UsersClient;
 import com.ecore.roles.client.model.User;
+import com.ecore.roles.configuration.FanOutConfigurationProperties;
+import com.ecore.roles.configuration.VirtualThreadsConfigurationProperties;
+import com.ecore.roles.exception.ResourceNotFoundException;
+import com.ecore.roles.service.impl.FanOut;
 import com.ecore.roles.service.impl.UsersServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletionException;
+
+import static com.ecore.roles.configuration.CacheConfiguration.USERS_CACHE;
 import static com.ecore.roles.utils.TestData.GIANNI_USER;
+import static com.ecore.roles.utils.TestData.GIANNI_USER_UUID;
 import static com.ecore.roles.utils.TestData.UUID_1;
+import static com.ecore.roles.utils.TestData.UUID_2;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class UsersServiceTest {
 
-    @InjectMocks
     private UsersServiceImpl usersService;
     @Mock
     private UsersClient usersClient;
 
+    private CacheManager cacheManager;
+    private FanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(USERS_CACHE);
+        FanOutConfigurationProperties properties = new FanOutConfigurationProperties();
+        properties.setTimeout(Duration.ofMillis(500));
+        fanOut = new FanOut(properties, new VirtualThreadsConfigurationProperties());
+        usersService = new UsersServiceImpl(usersClient, cacheManager, fanOut);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
     @Test
     void shouldGetUserWhenUserIdExists() {
         User gianniUser = GIANNI_USER();
@@ -34,4 +75,85 @@ class UsersServiceTest {
 
         assertNotNull(usersService.getUser(UUID_1));
     }
+
+    @Test
+    void shouldGetUsersByIdOnceEachAndSkipCachedOnes() {
+        cacheManager.getCache(USERS_CACHE).put(UUID_1, GIANNI_USER());
+        when(usersClient.getUser(GIANNI_USER_UUID))
+                .thenReturn(ResponseEntity.ok(GIANNI_USER()));
+
+        Map<UUID, User> users =
+                usersService.getUsersAsync(List.of(GIANNI_USER_UUID, UUID_1, GIANNI_USER_UUID)).join();
+
+        assertThat(users).containsOnlyKeys(GIANNI_USER_UUID, UUID_1);
+        assertThat(users.keySet()).containsExactly(GIANNI_USER_UUID, UUID_1);
+        verify(usersClient, times(1)).getUser(GIANNI_USER_UUID);
+        verify(usersClient, never()).getUser(UUID_1);
+        assertThat(cacheManager.getCache(USERS_CACHE).get(GIANNI_USER_UUID)).isNotNull();
+    }
+
+    @Test
+    void shouldLeaveOutUsersThatCannotBeFetched() {
+        when(usersClient.getUser(GIANNI_USER_UUID))
+                .thenReturn(ResponseEntity.ok(GIANNI_USER()));
+        when(usersClient.getUser(UUID_2)).thenThrow(new IllegalStateException("down"));
+
+        Map<UUID, User> users = usersService.getUsersAsync(List.of(GIANNI_USER_UUID, UUID_2)).join();
+
+        assertThat(users).containsOnlyKeys(GIANNI_USER_UUID);
+    }
+
+    @Test
+    void shouldStopWaitingForUsersAtTheDeadline() {
+        when(usersClient.getUser(GIANNI_USER_UUID))
+                .thenReturn(ResponseEntity.ok(GIANNI_USER()));
+        when(usersClient.getUser(UUID_2)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        Map<UUID, User> users = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> usersService.getUsersAsync(List.of(GIANNI_USER_UUID, UUID_2)).join());
+
+        assertThat(users).containsOnlyKeys(GIANNI_USER_UUID);
+    }
+
+    @Test
+    void shouldNotWaitForUsersOnCallingThread() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(usersClient.getUser(GIANNI_USER_UUID)).thenAnswer(invocation -> {
+            release.await();
+            return ResponseEntity.ok(GIANNI_USER());
+        });
+
+        CompletableFuture<Map<UUID, User>> users = usersService.getUsersAsync(List.of(GIANNI_USER_UUID));
+
+        assertThat(users).isNotDone();
+        release.countDown();
+        assertThat(users.join()).containsOnlyKeys(GIANNI_USER_UUID);
+    }
+
+    @Test
+    void shouldGetUserAsyncFromCacheOrUpstream() {
+        cacheManager.getCache(USERS_CACHE).put(UUID_1, GIANNI_USER());
+        when(usersClient.getUserAsync(GIANNI_USER_UUID))
+                .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(GIANNI_USER())));
+
+        assertThat(usersService.getUserAsync(UUID_1).join()).isNotNull();
+        assertThat(usersService.getUserAsync(GIANNI_USER_UUID).join()).isNotNull();
+
+        verify(usersClient, never()).getUserAsync(UUID_1);
+        assertThat(cacheManager.getCache(USERS_CACHE).get(GIANNI_USER_UUID)).isNotNull();
+    }
+
+    @Test
+    void shouldFailToGetUserAsyncWhenUpstreamDoesNotKnowIt() {
+        when(usersClient.getUserAsync(UUID_2)).thenReturn(CompletableFuture.failedFuture(
+                WebClientResponseException.create(404, "Not Found", null, null, null)));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> usersService.getUserAsync(UUID_2).join());
+
+        assertThat(exception).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
 }
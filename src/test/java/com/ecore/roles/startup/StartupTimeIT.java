@@ -0,0 +1,181 @@
+package com.ecore.roles.startup;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures a cold start the way the Docker image runs the service: the packaged jar is unpacked
+ * into plain jars, a training run dumps an AppCDS archive, and a fresh JVM is launched from that
+ * archive with the {@code fast-start} profile. The time from launching that JVM until
+ * {@code GET /v1/roles} first succeeds is kept in {@code target/startup-time.json} and must stay
+ * under {@code startup.budget-ms}. Runs in the {@code verify} phase, after the jar is packaged.
+ */
+class StartupTimeIT {
+
+    private static final long BUDGET_MILLIS = Long.getLong("startup.budget-ms", 20_000);
+    private static final String MAIN_CLASS = "com.ecore.roles.RolesApplication";
+    private static final Path WORK_DIRECTORY = Paths.get("target", "startup-time");
+    private static final List<String> APPLICATION_ARGUMENTS = List.of(
+            "--spring.profiles.active=fast-start", "--warm-up.enabled=false");
+
+    private static String classpath;
+    private static Path archive;
+
+    @BeforeAll
+    static void dumpArchive() throws Exception {
+        classpath = unpack(Paths.get(System.getProperty("startup.jar",
+                "target/roles-api-0.0.1-SNAPSHOT.jar")));
+        Path classList = WORK_DIRECTORY.resolve("roles.classlist");
+        archive = WORK_DIRECTORY.resolve("roles.jsa");
+
+        List<String> training = java("-XX:DumpLoadedClassList=" + classList);
+        training.add(MAIN_CLASS);
+        training.addAll(APPLICATION_ARGUMENTS);
+        training.addAll(List.of("--startup.exit-after-ready=true", "--server.port=0"));
+        run(training, "training");
+        run(java("-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive), "dump");
+    }
+
+    @Test
+    void shouldServeFirstRequestWithinBudget() throws Exception {
+        int port = freePort();
+        List<String> command = java("-Xshare:auto", "-XX:SharedArchiveFile=" + archive);
+        command.add(MAIN_CLASS);
+        command.addAll(APPLICATION_ARGUMENTS);
+        command.add("--server.port=" + port);
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/roles"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(WORK_DIRECTORY.resolve("measured.log").toFile())
+                .start();
+        try {
+            long firstRequestMillis = -1;
+            while (firstRequestMillis < 0 && process.isAlive()
+                    && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2 * BUDGET_MILLIS) {
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+            }
+            assertThat(firstRequestMillis).as("first successful GET /v1/roles, see %s",
+                    WORK_DIRECTORY.resolve("measured.log")).isPositive();
+            record(firstRequestMillis);
+            assertThat(firstRequestMillis).isLessThan(BUDGET_MILLIS);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Unpacks the fat jar like the Docker image does, since class-data sharing cannot archive classes
+     * loaded from nested jars or directories, and returns the resulting classpath.
+     */
+    private static String unpack(Path jar) throws IOException {
+        Path lib = WORK_DIRECTORY.resolve("lib");
+        Files.createDirectories(lib);
+        Path classes = lib.resolve("roles-api.jar");
+        List<String> libraries = new ArrayList<>();
+        try (JarFile fatJar = new JarFile(jar.toFile());
+                JarOutputStream out = new JarOutputStream(Files.newOutputStream(classes))) {
+            for (Enumeration<JarEntry> entries = fatJar.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (name.startsWith("BOOT-INF/classes/") && name.length() > "BOOT-INF/classes/".length()) {
+                    // directory entries too, classpath scanning (e.g. Flyway migrations) relies on them
+                    out.putNextEntry(new JarEntry(name.substring("BOOT-INF/classes/".length())));
+                    if (!entry.isDirectory()) {
+                        copy(fatJar, entry, out);
+                    }
+                    out.closeEntry();
+                } else if (entry.isDirectory()) {
+                    continue;
+                } else if (name.startsWith("BOOT-INF/lib/")) {
+                    Path library = lib.resolve(name.substring("BOOT-INF/lib/".length()));
+                    try (OutputStream libraryOut = Files.newOutputStream(library)) {
+                        copy(fatJar, entry, libraryOut);
+                    }
+                    libraries.add(library.toString());
+                }
+            }
+        }
+        Collections.sort(libraries);
+        libraries.add(0, classes.toString());
+        return String.join(File.pathSeparator, libraries);
+    }
+
+    private static void copy(JarFile jar, JarEntry entry, OutputStream out) throws IOException {
+        try (InputStream in = jar.getInputStream(entry)) {
+            in.transferTo(out);
+        }
+    }
+
+    private static List<String> java(String... options) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        Collections.addAll(command, options);
+        command.add("-cp");
+        command.add(classpath);
+        return command;
+    }
+
+    private static void run(List<String> command, String name) throws Exception {
+        Path log = WORK_DIRECTORY.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        if (!process.waitFor(5, TimeUnit.MINUTES)) {
+            process.destroyForcibly().waitFor();
+        }
+        assertThat(process.exitValue()).as("%s run, see %s", name, log).isZero();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void record(long firstRequestMillis) throws IOException {
+        Files.writeString(Paths.get("target", "startup-time.json"), format(
+                "{\"profile\":\"fast-start\",\"appCds\":true,\"firstRequestMillis\":%d,\"budgetMillis\":%d}%n",
+                firstRequestMillis, BUDGET_MILLIS));
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecore.roles.startup;
+
+import com.ecore.roles.configuration.WarmUpConfigurationProperties;
+import com.ecore.roles.repository.MembershipRepository;
+import com.ecore.roles.service.RolesService;
+import com.ecore.roles.service.TeamsService;
+import com.ecore.roles.service.UsersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.ecore.roles.utils.TestData.DEFAULT_MEMBERSHIP;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static com.ecore.roles.utils.TestData.GIANNI_USER_UUID;
+import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM_UUID;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private RolesService rolesService;
+    @Mock
+    private UsersService usersService;
+    @Mock
+    private TeamsService teamsService;
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    private WarmUpConfigurationProperties properties;
+    private WarmUpRunner warmUpRunner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmUpConfigurationProperties();
+        warmUpRunner = new WarmUpRunner(properties, eventPublisher, rolesService, usersService,
+                teamsService, membershipRepository);
+    }
+
+    @Test
+    void shouldPrimeRolesUsersAndTeams() {
+        when(rolesService.GetRoles()).thenReturn(List.of(DEVELOPER_ROLE()));
+        when(membershipRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(DEFAULT_MEMBERSHIP())));
+
+        warmUpRunner.run(null);
+
+        verify(rolesService).GetRole(DEVELOPER_ROLE().getId());
+        verify(usersService).getUser(GIANNI_USER_UUID);
+        verify(teamsService).getTeam(ORDINARY_CORAL_LYNX_TEAM_UUID);
+    }
+
+    @Test
+    void shouldFinishWhenUpstreamFails() {
+        when(membershipRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(DEFAULT_MEMBERSHIP())));
+        when(usersService.getUser(GIANNI_USER_UUID)).thenThrow(new IllegalStateException("down"));
+
+        warmUpRunner.run(null);
+
+        verify(teamsService).getTeam(ORDINARY_CORAL_LYNX_TEAM_UUID);
+    }
+
+    @Test
+    void shouldGiveUpWhenTimeoutIsReached() {
+        properties.setTimeout(Duration.ofMillis(100));
+        when(membershipRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(DEFAULT_MEMBERSHIP())));
+        when(usersService.getUser(GIANNI_USER_UUID)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> warmUpRunner.run(null));
+    }
+
+    @Test
+    void shouldFinishWhenMembershipsCannotBeRead() {
+        when(rolesService.GetRoles()).thenReturn(List.of(DEVELOPER_ROLE()));
+        when(membershipRepository.findAll(any(Pageable.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        warmUpRunner.run(null);
+
+        verify(rolesService).GetRole(DEVELOPER_ROLE().getId());
+        verifyNoInteractions(usersService, teamsService);
+    }
+
+    @Test
+    void shouldGiveUpWhenMembershipsAreSlow() {
+        properties.setTimeout(Duration.ofMillis(100));
+        when(membershipRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> warmUpRunner.run(null));
+        verifyNoInteractions(usersService, teamsService);
+    }
+
+    @Test
+    void shouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        warmUpRunner.run(null);
+
+        verifyNoInteractions(rolesService, usersService, teamsService, membershipRepository);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecore.roles.stub;
+
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.client.model.User;
+import com.ecore.roles.configuration.UpstreamStubConfigurationProperties.Latency;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static com.ecore.roles.utils.TestData.UUID_1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDirectoryTest {
+
+    private final SyntheticDirectory directory = new SyntheticDirectory(1_000, 100, 10, 0, 0);
+
+    @Test
+    void shouldFindUserByGeneratedId() {
+        UUID id = SyntheticDirectory.userId(42);
+
+        assertThat(directory.findUser(id)).map(User::getDisplayName).contains("user42");
+    }
+
+    @Test
+    void shouldNotFindUnknownIds() {
+        assertThat(directory.findUser(UUID_1)).isEmpty();
+        assertThat(directory.findUser(SyntheticDirectory.userId(1_000))).isEmpty();
+        assertThat(directory.findTeam(SyntheticDirectory.userId(1))).isEmpty();
+    }
+
+    @Test
+    void shouldBuildTeamsFromExistingUsers() {
+        Team team = directory.findTeam(SyntheticDirectory.teamId(99)).orElseThrow();
+
+        assertThat(team.getTeamMemberIds()).hasSize(10);
+        assertThat(team.getTeamMemberIds()).allSatisfy(id -> assertThat(directory.findUser(id)).isPresent());
+        assertThat(team.getTeamLeadId()).isEqualTo(team.getTeamMemberIds().get(0));
+    }
+
+    @Test
+    void shouldPadPayloads() {
+        SyntheticDirectory padded = new SyntheticDirectory(10, 10, 1, 500, 0);
+
+        assertThat(padded.user(0).getAvatarUrl().length())
+                .isEqualTo(directory.user(0).getAvatarUrl().length() + 500);
+    }
+
+    @Test
+    void shouldSampleLogNormalLatencyAroundConfiguredPercentiles() {
+        Latency latency = new Latency();
+        latency.setMedian(Duration.ofMillis(20));
+        latency.setP99(Duration.ofMillis(200));
+        Random random = new Random(42);
+
+        long[] samples = new long[100_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = LatencyDistribution.LOG_NORMAL.sampleNanos(latency, random);
+        }
+        Arrays.sort(samples);
+
+        assertThat(Duration.ofNanos(samples[samples.length / 2]))
+                .isBetween(Duration.ofMillis(18), Duration.ofMillis(22));
+        assertThat(Duration.ofNanos(samples[samples.length * 99 / 100]))
+                .isBetween(Duration.ofMillis(170), Duration.ofMillis(230));
+    }
+}
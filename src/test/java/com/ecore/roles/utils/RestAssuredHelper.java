@@ -69,6 +69,15 @@ public class RestAssuredHelper {
                 .then());
     }
 
+    public static EcoreValidatableResponse createMembership(Membership membership, String idempotencyKey) {
+        return sendRequest(givenNullableBody(MembershipDto.fromModel(membership))
+                .contentType(JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .when()
+                .post("/v1/roles/memberships")
+                .then());
+    }
+
     public static EcoreValidatableResponse getMemberships(UUID roleId) {
         return sendRequest(given()
                 .queryParam("roleId", roleId)
@@ -0,0 +1,84 @@
+package com.ecore.roles.web.json;
+
+import com.ecore.roles.client.model.Team;
+import com.ecore.roles.client.model.User;
+import com.ecore.roles.model.Membership;
+import com.ecore.roles.web.dto.MembershipDto;
+import com.ecore.roles.web.dto.RoleDto;
+import com.ecore.roles.web.dto.TeamDto;
+import com.ecore.roles.web.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.ecore.roles.utils.TestData.DEFAULT_MEMBERSHIP;
+import static com.ecore.roles.utils.TestData.DEVELOPER_ROLE;
+import static com.ecore.roles.utils.TestData.GIANNI_USER;
+import static com.ecore.roles.utils.TestData.ORDINARY_CORAL_LYNX_TEAM;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelSerializersTest {
+
+    private final ObjectMapper plain = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper direct = Jackson2ObjectMapperBuilder.json()
+            .serializers(new MembershipSerializer(), new RoleSerializer(), new UserSerializer(),
+                    new TeamSerializer())
+            .build();
+
+    @Test
+    void shouldWriteSameJsonAsDtos() throws Exception {
+        assertThat(direct.writeValueAsString(List.of(DEFAULT_MEMBERSHIP())))
+                .isEqualTo(plain.writeValueAsString(List.of(MembershipDto.fromModel(DEFAULT_MEMBERSHIP()))));
+        assertThat(direct.writeValueAsString(DEVELOPER_ROLE()))
+                .isEqualTo(plain.writeValueAsString(RoleDto.fromModel(DEVELOPER_ROLE())));
+        assertThat(direct.writeValueAsString(GIANNI_USER()))
+                .isEqualTo(plain.writeValueAsString(UserDto.fromModel(GIANNI_USER())));
+        assertThat(direct.writeValueAsString(ORDINARY_CORAL_LYNX_TEAM()))
+                .isEqualTo(plain.writeValueAsString(TeamDto.fromModel(ORDINARY_CORAL_LYNX_TEAM())));
+    }
+
+    @Test
+    void shouldWriteMembershipFieldsInDtoOrder() throws Exception {
+        Membership membership = DEFAULT_MEMBERSHIP();
+
+        assertThat(direct.writeValueAsString(membership)).isEqualTo(format(
+                "{\"id\":\"%s\",\"roleId\":\"%s\",\"teamId\":\"%s\",\"teamMemberId\":\"%s\"}",
+                membership.getId(), membership.getRole().getId(), membership.getTeamId(),
+                membership.getUserId()));
+    }
+
+    @Test
+    void shouldReadMembershipBackAsDto() throws Exception {
+        Membership membership = DEFAULT_MEMBERSHIP();
+        MembershipDto expected = MembershipDto.fromModel(membership);
+
+        MembershipDto read = plain.readValue(direct.writeValueAsString(membership), MembershipDto.class);
+
+        assertThat(read).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLeaveOutEmptyOptionalFields() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        assertThat(direct.writeValueAsString(User.builder().id(id).build()))
+                .isEqualTo("{\"id\":\"" + id + "\",\"displayName\":null}");
+        assertThat(direct.writeValueAsString(Team.builder().id(id).name("Core").build()))
+                .isEqualTo("{\"id\":\"" + id + "\",\"name\":\"Core\"}");
+    }
+
+    @Test
+    void shouldWriteUuidsAsBinaryInCbor() throws Exception {
+        ObjectMapper cbor =
+                new CBORMapper().registerModule(new SimpleModule().addSerializer(new RoleSerializer()));
+
+        assertThat(cbor.writeValueAsBytes(DEVELOPER_ROLE()))
+                .isEqualTo(new CBORMapper().writeValueAsBytes(RoleDto.fromModel(DEVELOPER_ROLE())));
+    }
+}